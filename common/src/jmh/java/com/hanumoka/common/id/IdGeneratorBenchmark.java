@@ -0,0 +1,57 @@
+package com.hanumoka.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * 주문번호/결제키 생성 방식 비교
+ *
+ * <h3>실행</h3>
+ * <pre>
+ * ./gradlew :common:jmh
+ * # 할당량까지 보려면: ./gradlew :common:jmh -Pjmh.profilers=gc
+ * </pre>
+ *
+ * <ul>
+ *   <li>uuidSubstring: 기존 방식 ("ORD-" + UUID 앞 8자리 대문자)</li>
+ *   <li>timeOrderedKey: {@link TimeOrderedIdGenerator#nextKey(String)}</li>
+ *   <li>timeOrderedId: 숫자 ID만 (문자열 인코딩 비용 제외)</li>
+ *   <li>*Contended: 4스레드 동시 호출 (CAS 경합 포함)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+
+    @Benchmark
+    public String uuidSubstring() {
+        return "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    public String timeOrderedKey() {
+        return generator.nextKey("ORD-");
+    }
+
+    @Benchmark
+    public long timeOrderedId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uuidSubstringContended() {
+        return "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String timeOrderedKeyContended() {
+        return generator.nextKey("ORD-");
+    }
+}
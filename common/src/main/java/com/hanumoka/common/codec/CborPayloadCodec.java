@@ -0,0 +1,59 @@
+package com.hanumoka.common.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * CBOR 코덱 (바이너리 JSON)
+ *
+ * <h3>Why?</h3>
+ * <ul>
+ *   <li>필드명/숫자/날짜 문자열이 바이너리로 표현되어 JSON보다 작음</li>
+ *   <li>텍스트 토큰화가 없어 파싱이 빠름</li>
+ *   <li>스키마 없이 JSON과 같은 데이터 모델 → 이벤트 클래스 변경 불필요</li>
+ * </ul>
+ *
+ * <p>CBOR 매퍼는 애플리케이션 ObjectMapper를 복사해 만들므로
+ * 등록된 모듈(JavaTimeModule 등)과 역직렬화 설정이 그대로 적용됩니다.</p>
+ */
+public class CborPayloadCodec implements PayloadCodec {
+
+    public static final String ID = "cbor";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public CborPayloadCodec(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    /**
+     * JSON 토큰을 CBOR로 그대로 복사 (트리/객체 생성 없음)
+     */
+    @Override
+    public byte[] encode(String json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length());
+        try (JsonParser parser = jsonMapper.createParser(json);
+             JsonGenerator generator = cborMapper.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) throws IOException {
+        return cborMapper.readValue(data, type);
+    }
+}
@@ -0,0 +1,35 @@
+package com.hanumoka.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON 코덱 (기본값, 기존 메시지와 호환)
+ */
+public class JsonPayloadCodec implements PayloadCodec {
+
+    public static final String ID = "json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) throws IOException {
+        return objectMapper.readValue(data, type);
+    }
+}
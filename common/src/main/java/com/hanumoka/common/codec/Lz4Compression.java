@@ -0,0 +1,50 @@
+package com.hanumoka.common.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * LZ4 블록 압축
+ *
+ * <h3>포맷</h3>
+ * <pre>
+ * [원본 길이 4바이트 (big-endian)][LZ4 블록]
+ * </pre>
+ *
+ * <p>LZ4는 압축률보다 속도 우선 → 발행/소비 경로의 CPU 부담이 작습니다.
+ * 디코딩은 입력 길이를 검증하는 safe decompressor를 사용합니다.</p>
+ */
+public final class Lz4Compression {
+
+    public static final String SUFFIX = "+lz4";
+
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+    private Lz4Compression() {
+    }
+
+    public static byte[] compress(byte[] data) {
+        int maxLength = COMPRESSOR.maxCompressedLength(data.length);
+        byte[] out = new byte[LENGTH_PREFIX + maxLength];
+        ByteBuffer.wrap(out).putInt(data.length);
+
+        int compressedLength = COMPRESSOR.compress(data, 0, data.length, out, LENGTH_PREFIX, maxLength);
+
+        byte[] result = new byte[LENGTH_PREFIX + compressedLength];
+        System.arraycopy(out, 0, result, 0, result.length);
+        return result;
+    }
+
+    public static byte[] decompress(byte[] data) {
+        int originalLength = ByteBuffer.wrap(data).getInt();
+        byte[] out = new byte[originalLength];
+        DECOMPRESSOR.decompress(data, LENGTH_PREFIX, data.length - LENGTH_PREFIX, out, 0, originalLength);
+        return out;
+    }
+}
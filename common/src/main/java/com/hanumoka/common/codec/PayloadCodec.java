@@ -0,0 +1,36 @@
+package com.hanumoka.common.codec;
+
+import java.io.IOException;
+
+/**
+ * 이벤트 페이로드 인코딩 방식
+ *
+ * <p>Outbox에는 JSON으로 저장하고, Redis Stream으로 발행할 때 코덱으로 인코딩합니다.
+ * 코덱 ID는 Stream 메시지의 codec 필드로 함께 전달되어 Consumer가 같은 코덱으로 디코딩합니다.</p>
+ *
+ * @see PayloadCodecRegistry
+ */
+public interface PayloadCodec {
+
+    /**
+     * 코덱 ID (Stream 메시지의 codec 필드 값)
+     */
+    String id();
+
+    /**
+     * JSON 문자열을 코덱 포맷으로 인코딩
+     *
+     * @param json JSON 문자열
+     * @return 인코딩된 바이트
+     */
+    byte[] encode(String json) throws IOException;
+
+    /**
+     * 코덱 포맷을 객체로 디코딩
+     *
+     * @param data 인코딩된 바이트
+     * @param type 대상 타입
+     * @return 디코딩된 객체
+     */
+    <T> T decode(byte[] data, Class<T> type) throws IOException;
+}
@@ -0,0 +1,125 @@
+package com.hanumoka.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 타입별 페이로드 코덱 선택 + 인코딩/디코딩
+ *
+ * <h3>코덱 ID</h3>
+ * <pre>
+ * json        - JSON (UTF-8)
+ * cbor        - CBOR
+ * json+lz4    - JSON 후 LZ4 압축 (압축 임계값 초과 시)
+ * cbor+lz4    - CBOR 후 LZ4 압축 (압축 임계값 초과 시)
+ * </pre>
+ *
+ * <h3>사용 방법</h3>
+ * <pre>
+ * // Producer: 이벤트 타입별 코덱 선택
+ * EncodedPayload encoded = registry.encode("OrderCreated", json);
+ * // → Stream 메시지: codec=encoded.codecId(), payload=encoded.data()
+ *
+ * // Consumer: 메시지의 codec 필드로 디코딩 (codec 필드가 없으면 json)
+ * OrderCreatedEvent event = registry.decode(codecId, payload, OrderCreatedEvent.class);
+ * </pre>
+ */
+public class PayloadCodecRegistry {
+
+    /**
+     * 설정에 쓸 수 있는 코덱 ID (압축 접미사 제외)
+     */
+    public static final Set<String> CODEC_IDS = Set.of(JsonPayloadCodec.ID, CborPayloadCodec.ID);
+
+    private final Map<String, PayloadCodec> codecs;
+    private final PayloadCodec defaultCodec;
+    private final Map<String, PayloadCodec> codecByEventType;
+    private final int compressionThreshold;
+
+    /**
+     * @param objectMapper         애플리케이션 ObjectMapper
+     * @param defaultCodecId       기본 코덱 ID
+     * @param codecIdByEventType   이벤트 타입 → 코덱 ID
+     * @param compressionThreshold 이 크기(바이트)를 넘으면 LZ4 압축 (0 이하: 압축 안 함)
+     */
+    public PayloadCodecRegistry(ObjectMapper objectMapper, String defaultCodecId,
+                                Map<String, String> codecIdByEventType, int compressionThreshold) {
+        this.codecs = Map.of(
+                JsonPayloadCodec.ID, new JsonPayloadCodec(objectMapper),
+                CborPayloadCodec.ID, new CborPayloadCodec(objectMapper));
+        this.defaultCodec = codec(defaultCodecId);
+        this.codecByEventType = codecIdByEventType.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> codec(e.getValue())));
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * 디코딩 전용 (Consumer용)
+     */
+    public static PayloadCodecRegistry forDecoding(ObjectMapper objectMapper) {
+        return new PayloadCodecRegistry(objectMapper, JsonPayloadCodec.ID, Map.of(), 0);
+    }
+
+    /**
+     * 이벤트 타입에 맞는 코덱으로 인코딩
+     *
+     * @param eventType 이벤트 타입
+     * @param json      JSON 페이로드
+     * @return 코덱 ID + 인코딩된 바이트
+     */
+    public EncodedPayload encode(String eventType, String json) {
+        PayloadCodec codec = codecByEventType.getOrDefault(eventType, defaultCodec);
+        try {
+            byte[] data = codec.encode(json);
+            if (compressionThreshold > 0 && data.length > compressionThreshold) {
+                return new EncodedPayload(codec.id() + Lz4Compression.SUFFIX, Lz4Compression.compress(data));
+            }
+            return new EncodedPayload(codec.id(), data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode payload: eventType=" + eventType, e);
+        }
+    }
+
+    /**
+     * 코덱 ID에 맞게 디코딩
+     *
+     * @param codecId 코덱 ID (null이면 json)
+     * @param data    인코딩된 바이트
+     * @param type    대상 타입
+     * @return 디코딩된 객체
+     */
+    public <T> T decode(String codecId, byte[] data, Class<T> type) {
+        String id = codecId == null ? JsonPayloadCodec.ID : codecId;
+        try {
+            if (id.endsWith(Lz4Compression.SUFFIX)) {
+                id = id.substring(0, id.length() - Lz4Compression.SUFFIX.length());
+                data = Lz4Compression.decompress(data);
+            }
+            return codec(id).decode(data, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode payload: codec=" + codecId, e);
+        }
+    }
+
+    private PayloadCodec codec(String codecId) {
+        PayloadCodec codec = codecs.get(codecId);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown payload codec: " + codecId);
+        }
+        return codec;
+    }
+
+    /**
+     * 인코딩 결과
+     *
+     * @param codecId 코덱 ID (Stream 메시지의 codec 필드)
+     * @param data    인코딩된 바이트
+     */
+    public record EncodedPayload(String codecId, byte[] data) {
+    }
+}
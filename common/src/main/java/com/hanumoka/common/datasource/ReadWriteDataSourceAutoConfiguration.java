@@ -0,0 +1,102 @@
+package com.hanumoka.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 분리 자동 설정 (datasource.replica.enabled=true일 때만)
+ *
+ * <ul>
+ *   <li>primaryDataSource: spring.datasource.* (Flyway 마이그레이션도 여기로)</li>
+ *   <li>replicaDataSource: datasource.replica.* (읽기 전용 풀)</li>
+ *   <li>dataSource (@Primary): JPA/JdbcTemplate이 사용하는 라우팅 DataSource</li>
+ *   <li>readYourWritesResetFilter: 요청이 끝나면 스레드의 쓰기 시각 정리 (서블릿 애플리케이션만)</li>
+ * </ul>
+ *
+ * <p>두 풀 모두 HikariDataSource Bean이므로 hikaricp.connections.* 메트릭이
+ * pool 태그({pool-name-prefix}-primary, {pool-name-prefix}-replica)로 따로 기록됩니다.
+ * datasource.replica.pool-name-prefix 미설정 시 spring.application.name을 사용합니다.</p>
+ *
+ * <p>DataSourceAutoConfiguration보다 먼저 등록되어 기본 DataSource 대신 사용됩니다.
+ * 서비스는 META-INF/spring/...AutoConfiguration.imports로 이 설정을 받으므로 별도 Bean 정의가 필요 없습니다.</p>
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReadWriteDataSourceAutoConfiguration {
+
+    @Value("${datasource.replica.pool-name-prefix:${spring.application.name}}")
+    private String poolNamePrefix;
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(poolNamePrefix + "-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(poolNamePrefix + "-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${datasource.replica.max-lag-ms:1000}") long maxLagMs,
+                                               @Value("${datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        return new ReplicaLagMonitor(ReplicaLagProbe.mysql(replicaDataSource),
+                Duration.ofMillis(maxLagMs), Duration.ofMillis(checkIntervalMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${datasource.replica.read-your-writes-ms:3000}") long readYourWritesMs) {
+        return ReadWriteRoutingDataSource.lazy(primaryDataSource, replicaDataSource, replicaLagMonitor,
+                Duration.ofMillis(readYourWritesMs));
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ReadYourWritesResetFilter readYourWritesResetFilter(@Qualifier("dataSource") DataSource dataSource)
+            throws SQLException {
+        return new ReadYourWritesResetFilter(dataSource.unwrap(ReadWriteRoutingDataSource.class));
+    }
+}
@@ -0,0 +1,143 @@
+package com.hanumoka.common.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 (primary / replica)
+ *
+ * <h3>Why?</h3>
+ * <p>서비스 클래스가 {@code @Transactional(readOnly = true)}여도 커넥션은 모두 primary 풀에서 나옵니다.
+ * 읽기 전용 트랜잭션을 복제본으로 보내면 primary는 쓰기와 쓰기 트랜잭션 안의 읽기만 처리합니다.</p>
+ *
+ * <h3>라우팅 규칙 (커넥션을 실제로 얻는 시점)</h3>
+ * <ol>
+ *   <li>트랜잭션 없음 또는 쓰기 트랜잭션 → PRIMARY (쓰기 트랜잭션이면 현재 스레드의 쓰기 시각 기록)</li>
+ *   <li>{@link #onPrimary} 안에서 실행 중 → PRIMARY</li>
+ *   <li>읽기 전용 트랜잭션이지만 같은 스레드(요청)가 read-your-writes 시간 안에 썼음 → PRIMARY</li>
+ *   <li>복제 지연이 임계값 초과 / 측정 불가 ({@link ReplicaLagMonitor}) → PRIMARY</li>
+ *   <li>그 외 → REPLICA</li>
+ * </ol>
+ *
+ * <h3>LazyConnectionDataSourceProxy가 필요한 이유</h3>
+ * <p>트랜잭션 매니저는 readOnly 여부를 동기화 상태에 기록하기 전에 커넥션을 얻습니다.
+ * 프록시로 감싸면 실제 커넥션을 첫 SQL 실행 시점에 얻으므로 그때 readOnly 여부를 보고 라우팅할 수 있습니다.
+ * 따라서 항상 {@link #lazy}로 생성한 DataSource를 등록합니다.</p>
+ *
+ * <p>read-your-writes 시간은 복제 지연 임계값 + 측정 간격 이상으로 설정합니다.
+ * 그 시간이 지나면 복제본에도 쓴 내용이 반영되었다고 볼 수 있습니다.
+ * 쓰기 시각은 요청 스레드에 남으므로 요청이 끝나면 {@link ReadYourWritesResetFilter}가 {@link #clearLastWrite()}로 정리합니다
+ * (스레드 풀의 다음 요청이 이전 요청의 쓰기 때문에 primary로 가지 않도록).</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * {@link #onPrimary} 실행 중인 스레드
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드의 마지막 쓰기 트랜잭션 시각 (System.nanoTime)
+     */
+    private final ThreadLocal<Long> lastWriteAt = new ThreadLocal<>();
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                               Duration readYourWrites, LongSupplier nanoClock) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesNanos = readYourWrites.toNanos();
+        this.nanoClock = nanoClock;
+
+        setTargetDataSources(Map.<Object, Object>of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 라우팅 DataSource를 LazyConnectionDataSourceProxy로 감싸서 생성
+     *
+     * @param primary        쓰기/기본 풀
+     * @param replica        읽기 전용 풀
+     * @param lagMonitor     복제 지연 감시
+     * @param readYourWrites 쓰기 후 읽기를 primary로 고정할 시간
+     */
+    public static DataSource lazy(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                  Duration readYourWrites) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, lagMonitor, readYourWrites, System::nanoTime));
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이어도 primary에서 실행
+     *
+     * <p>복제 지연 동안의 이전 값이 오래 남으면 안 되는 읽기(캐시 채우기 등)에 사용합니다.
+     * 라우팅을 사용하지 않는 설정에서는 아무 효과가 없습니다.</p>
+     */
+    public static <T> T onPrimary(Supplier<T> task) {
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return task.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드의 쓰기 시각 정리 (요청 종료 시)
+     */
+    public void clearLastWrite() {
+        lastWriteAt.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRole();
+    }
+
+    /**
+     * 지금 커넥션을 얻으면 사용할 풀
+     */
+    DataSourceRole currentRole() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                lastWriteAt.set(nanoClock.getAsLong());
+            }
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        Long wroteAt = lastWriteAt.get();
+        if (wroteAt != null) {
+            if (nanoClock.getAsLong() - wroteAt < readYourWritesNanos) {
+                return DataSourceRole.PRIMARY;
+            }
+            lastWriteAt.remove();
+        }
+
+        return lagMonitor.isReplicaUsable() ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+
+    /**
+     * 풀 구분
+     */
+    public enum DataSourceRole {
+        PRIMARY,
+        REPLICA
+    }
+}
@@ -0,0 +1,35 @@
+package com.hanumoka.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청이 끝나면 현재 스레드의 쓰기 시각({@link ReadWriteRoutingDataSource#clearLastWrite()})을 정리하는 필터
+ *
+ * <p>서블릿 스레드는 풀에서 재사용되므로 정리하지 않으면 이전 요청의 쓰기 시각이 남아
+ * 다음 요청(다른 사용자)의 읽기 전용 트랜잭션까지 read-your-writes 시간 동안 primary로 보냅니다.</p>
+ */
+public class ReadYourWritesResetFilter extends OncePerRequestFilter {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public ReadYourWritesResetFilter(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            routingDataSource.clearLastWrite();
+        }
+    }
+}
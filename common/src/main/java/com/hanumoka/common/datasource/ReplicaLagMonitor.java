@@ -0,0 +1,101 @@
+package com.hanumoka.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 지연 감시
+ *
+ * <h3>판단 기준 (check-interval마다)</h3>
+ * <ul>
+ *   <li>지연 &lt;= max-lag: 복제본 사용</li>
+ *   <li>지연 &gt; max-lag, 복제 중지(null), 측정 실패: 복제본 사용 안 함 → 읽기도 primary로</li>
+ * </ul>
+ *
+ * <p>기동 직후 첫 측정 전까지는 복제본을 사용하지 않습니다.
+ * 상태가 바뀔 때만 로그를 남깁니다.</p>
+ *
+ * <pre>
+ * &#64;Bean(initMethod = "start", destroyMethod = "stop")
+ * public ReplicaLagMonitor replicaLagMonitor(...) {
+ *     return new ReplicaLagMonitor(ReplicaLagProbe.mysql(replicaDataSource), maxLag, checkInterval);
+ * }
+ * </pre>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaLagProbe probe;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile boolean replicaUsable;
+    private volatile Duration lastLag;
+
+    private ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(ReplicaLagProbe probe, Duration maxLag, Duration checkInterval) {
+        this.probe = probe;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public void start() {
+        check();
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon(true).factory());
+        executor.scheduleWithFixedDelay(this::check,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("복제 지연 감시 시작: maxLag={}ms, interval={}ms, replicaUsable={}",
+                maxLag.toMillis(), checkInterval.toMillis(), replicaUsable);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 지연 측정 + 상태 갱신
+     */
+    public void check() {
+        Duration lag;
+        try {
+            lag = probe.currentLag();
+        } catch (Exception e) {
+            log.debug("복제 지연 측정 실패", e);
+            lag = null;
+        }
+        lastLag = lag;
+
+        boolean usable = lag != null && lag.compareTo(maxLag) <= 0;
+        if (usable != replicaUsable) {
+            replicaUsable = usable;
+            if (usable) {
+                log.info("복제본 읽기 재개: lag={}ms, maxLag={}ms", lag.toMillis(), maxLag.toMillis());
+            } else {
+                log.warn("복제본 읽기 중단 → primary로 읽기: lag={}, maxLag={}ms",
+                        lag == null ? "unknown" : lag.toMillis() + "ms", maxLag.toMillis());
+            }
+        }
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보내도 되는지
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * 마지막 측정 지연 (알 수 없으면 null)
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hanumoka.common.datasource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제 지연 측정
+ *
+ * <p>{@link ReplicaLagMonitor}가 주기적으로 호출합니다.</p>
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * 현재 복제 지연
+     *
+     * @return 지연 시간, 복제가 멈췄거나 알 수 없으면 null
+     * @throws Exception 복제본 연결 실패 등 (복제본 사용 불가로 처리)
+     */
+    Duration currentLag() throws Exception;
+
+    /**
+     * MySQL 복제본의 SHOW REPLICA STATUS 기반 측정 (MySQL 8.0.22+)
+     *
+     * <ul>
+     *   <li>Seconds_Behind_Source: 초 단위 (1초 미만 지연은 0)</li>
+     *   <li>NULL: 복제 스레드 중지 → null</li>
+     *   <li>결과 행 없음: 복제본으로 설정되지 않은 인스턴스 → null</li>
+     * </ul>
+     *
+     * <p>복제본 계정에 REPLICATION CLIENT 권한이 필요합니다.</p>
+     */
+    static ReplicaLagProbe mysql(DataSource replica) {
+        return () -> {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : Duration.ofSeconds(seconds);
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.hanumoka.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 취소 이벤트
+ *
+ * <p>PENDING 또는 CONFIRMED → CANCELLED (Saga 보상 포함) 상태 전이와 같은 트랜잭션에서 Outbox에 저장됩니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCancelledEvent {
+
+    /**
+     * 주문 ID
+     */
+    private Long orderId;
+
+    /**
+     * 주문 번호
+     */
+    private String orderNumber;
+
+    /**
+     * 고객 ID
+     */
+    private Long customerId;
+
+    /**
+     * 총 주문 금액
+     */
+    private BigDecimal totalAmount;
+
+    /**
+     * 변경된 주문 상태
+     */
+    private String status;
+
+    /**
+     * 상태 변경 시간 (orders.updated_at과 같은 값)
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * 취소 사유 (Saga 보상/사용자 취소는 null, 오래된 PENDING 정리는 PENDING_TIMEOUT)
+     */
+    private String reason;
+}
@@ -0,0 +1,51 @@
+package com.hanumoka.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 확정 이벤트
+ *
+ * <p>결제 완료 후 PENDING → CONFIRMED 상태 전이와 같은 트랜잭션에서 Outbox에 저장됩니다.</p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderConfirmedEvent {
+
+    /**
+     * 주문 ID
+     */
+    private Long orderId;
+
+    /**
+     * 주문 번호
+     */
+    private String orderNumber;
+
+    /**
+     * 고객 ID
+     */
+    private Long customerId;
+
+    /**
+     * 총 주문 금액
+     */
+    private BigDecimal totalAmount;
+
+    /**
+     * 변경된 주문 상태
+     */
+    private String status;
+
+    /**
+     * 상태 변경 시간 (orders.updated_at과 같은 값)
+     */
+    private LocalDateTime occurredAt;
+}
@@ -34,6 +34,15 @@ public enum ErrorCode {
     // ========================================
     ORDER_NOT_FOUND("ORDER_001", "주문을 찾을 수 없습니다"),
 
+    /** 일괄 주문 생성: 비어 있거나 최대 건수 초과 */
+    ORDER_BATCH_SIZE_INVALID("ORDER_002", "일괄 주문 건수가 올바르지 않습니다"),
+
+    /** 현재 상태에서 허용되지 않는 상태 전이 (예: CANCELLED → CONFIRMED) */
+    ORDER_INVALID_STATUS_TRANSITION("ORDER_003", "현재 주문 상태에서는 요청한 상태로 변경할 수 없습니다"),
+
+    /** 일괄 주문 생성: 고객 ID 누락, 상품 정보 누락, 수량/단가가 올바르지 않은 항목 */
+    ORDER_BATCH_ITEM_INVALID("ORDER_004", "일괄 주문 항목이 올바르지 않습니다"),
+
     // ========================================
     // 재고
     // ========================================
@@ -0,0 +1,27 @@
+package com.hanumoka.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 시간 순서 ID 생성기 자동 설정
+ *
+ * <p>common을 사용하는 모든 서비스에 {@link TimeOrderedIdGenerator} Bean 하나를 등록합니다.
+ * 서비스가 직접 Bean을 정의하면 그쪽을 사용합니다.</p>
+ *
+ * <pre>
+ * id-generator:
+ *   node-id: 3   # 인스턴스별 0~1023, 미설정 시 호스트명 + PID로 계산
+ * </pre>
+ */
+@AutoConfiguration
+public class TimeOrderedIdAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TimeOrderedIdGenerator timeOrderedIdGenerator(@Value("${id-generator.node-id:-1}") int nodeId) {
+        return TimeOrderedIdGenerator.forNode(nodeId);
+    }
+}
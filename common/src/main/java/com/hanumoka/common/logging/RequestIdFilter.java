@@ -4,20 +4,20 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.hanumoka.common.id.TimeOrderedIdGenerator;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
  * 요청별 traceId를 MDC에 설정하는 필터
  *
  * 동작:
  * 1. X-Request-ID 헤더가 있으면 → 해당 값 사용 (서비스 간 전파)
- * 2. 없으면 → 새로 생성 (최초 진입점)
+ * 2. 없으면 → 새로 생성 (최초 진입점, REQ-{시간 순서 키})
  *
  * MDC 키:
  * - traceId: 요청 추적 ID (X-Request-ID 헤더와 매핑)
@@ -30,6 +30,12 @@ public class RequestIdFilter extends OncePerRequestFilter {
     public static final String MDC_TRACE_ID = "traceId";
     public static final String MDC_SAGA_ID = "sagaId";
 
+    private final TimeOrderedIdGenerator idGenerator;
+
+    public RequestIdFilter(TimeOrderedIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -59,6 +65,6 @@ public class RequestIdFilter extends OncePerRequestFilter {
     }
 
     private String generateTraceId() {
-        return "REQ-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.nextKey("REQ-");
     }
 }
@@ -0,0 +1,146 @@
+package com.hanumoka.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 로컬 DB(H2 메모리 인스턴스 primary, replica)로 라우팅 규칙 검증
+ *
+ * <p>각 DB의 node 테이블에 자기 이름을 넣어 두고, 조회 결과로 어느 풀을 사용했는지 확인합니다.</p>
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+    private static final Duration READ_YOUR_WRITES = Duration.ofSeconds(2);
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+
+    private final AtomicReference<Duration> replicaLag = new AtomicReference<>(Duration.ZERO);
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        lagMonitor = new ReplicaLagMonitor(replicaLag::get, MAX_LAG, Duration.ofMillis(500));
+        lagMonitor.check();
+
+        routing = new ReadWriteRoutingDataSource(primary, replica, lagMonitor, READ_YOUR_WRITES, nanoTime::get);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖 조회는 primary")
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 임계값을 넘거나 복제가 멈추면 읽기도 primary")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        replicaLag.set(Duration.ofSeconds(5));
+        lagMonitor.check();
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        replicaLag.set(null);
+        lagMonitor.check();
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        replicaLag.set(Duration.ZERO);
+        lagMonitor.check();
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("같은 스레드가 쓴 직후의 읽기는 read-your-writes 시간 동안 primary")
+    void readsOwnWritesFromPrimary() {
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+        String afterWrite = readOnlyTx.execute(status -> currentNode());
+
+        nanoTime.addAndGet(READ_YOUR_WRITES.toNanos());
+        String afterWindow = readOnlyTx.execute(status -> currentNode());
+
+        assertThat(afterWrite).isEqualTo("primary");
+        assertThat(afterWindow).isEqualTo("replica");
+        assertThat(jdbcTemplate.queryForObject("SELECT touched FROM node", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청이 끝나 쓰기 시각을 정리하면 같은 스레드의 다음 읽기는 replica")
+    void clearLastWriteEndsReadYourWrites() {
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+
+        routing.clearLastWrite();
+
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 메서드가 쓰기 트랜잭션에 참여하면 primary")
+    void readOnlyInsideWriteTransactionStaysOnPrimary() {
+        String node = writeTx.execute(outer -> readOnlyTx.execute(inner -> currentNode()));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 읽기 전용 트랜잭션은 primary")
+    void onPrimaryForcesPrimary() {
+        String node = ReadWriteRoutingDataSource.onPrimary(() -> readOnlyTx.execute(status -> currentNode()));
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20), touched INT)");
+        template.update("INSERT INTO node VALUES (?, 0)", name);
+        return database;
+    }
+}
@@ -0,0 +1,109 @@
+package com.hanumoka.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가짜 시계로 ID 비트 구성과 단조 증가 규칙 검증
+ */
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 86_400_000L;
+    private static final int SEQUENCE_PER_MILLI = 4096;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID는 계속 증가")
+    void staysMonotonicWhenClockGoesBackwards() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, clock::get);
+
+        long beforeRollback = generator.nextId();
+        clock.set(NOW - 5_000);
+        long afterRollback = generator.nextId();
+        long next = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+        assertThat(next).isGreaterThan(afterRollback);
+        assertThat(TimeOrderedIdGenerator.timestampOf(afterRollback)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("밀리초 내 순번이 넘치면 밀리초 비트로 올림")
+    void carriesSequenceOverflowIntoMillis() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, clock::get);
+
+        long last = -1;
+        for (int i = 0; i < SEQUENCE_PER_MILLI; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            assertThat(TimeOrderedIdGenerator.timestampOf(id)).isEqualTo(NOW);
+            last = id;
+        }
+
+        long overflowed = generator.nextId();
+
+        assertThat(overflowed).isGreaterThan(last);
+        assertThat(TimeOrderedIdGenerator.timestampOf(overflowed)).isEqualTo(NOW + 1);
+        assertThat(sequenceOf(overflowed)).isZero();
+        assertThat(nodeIdOf(overflowed)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("문자열 키 정렬 순서 = ID 생성 순서")
+    void keyOrderMatchesIdOrder() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+
+        List<String> keys = new ArrayList<>();
+        for (long step : new long[]{0, 0, 1, 31, 32, 1_000, 1L << 35, 0, 1L << 40}) {
+            clock.addAndGet(step);
+            keys.add(generator.nextKey("ORD-"));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> {
+            assertThat(key).startsWith("ORD-");
+            assertThat(key).hasSize("ORD-".length() + TimeOrderedIdGenerator.KEY_LENGTH);
+        });
+    }
+
+    @Test
+    @DisplayName("timestampOf는 발급 시각을 그대로 복원")
+    void timestampRoundTrip() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID, clock::get);
+
+        for (long millis : new long[]{TimeOrderedIdGenerator.EPOCH_MILLIS + 1, NOW, NOW + 123_456_789L}) {
+            clock.set(millis);
+            assertThat(TimeOrderedIdGenerator.timestampOf(generator.nextId())).isEqualTo(millis);
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID는 0~1023만 허용하고 ID의 노드 비트에 그대로 들어감")
+    void nodeIdBounds() {
+        assertThat(nodeIdOf(new TimeOrderedIdGenerator(0, clock::get).nextId())).isZero();
+        assertThat(nodeIdOf(new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID, clock::get).nextId()))
+                .isEqualTo(TimeOrderedIdGenerator.MAX_NODE_ID);
+
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(-1, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(TimeOrderedIdGenerator.deriveNodeId()).isBetween(0, TimeOrderedIdGenerator.MAX_NODE_ID);
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCE_PER_MILLI - 1);
+    }
+
+    private static long nodeIdOf(long id) {
+        return (id >>> 12) & TimeOrderedIdGenerator.MAX_NODE_ID;
+    }
+}
@@ -1,5 +1,6 @@
 package com.hanumoka.orchestrator.pure.saga;
 
+import com.hanumoka.common.id.TimeOrderedIdGenerator;
 import com.hanumoka.orchestrator.pure.client.InventoryServiceClient;
 import com.hanumoka.orchestrator.pure.client.OrderServiceClient;
 import com.hanumoka.orchestrator.pure.client.PaymentServiceClient;
@@ -9,8 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 /**
  * 주문 Saga 오케스트레이터
  *
@@ -29,6 +28,7 @@ public class OrderSagaOrchestrator {
     private final OrderServiceClient orderClient;
     private final InventoryServiceClient inventoryClient;
     private final PaymentServiceClient paymentClient;
+    private final TimeOrderedIdGenerator idGenerator;
 
     /**
      * Saga 실행
@@ -159,9 +159,9 @@ public class OrderSagaOrchestrator {
     /**
      * Saga ID 생성
      *
-     * @return SAGA-XXXXXXXX 형식의 고유 식별자
+     * @return SAGA-{13자리 시간 순서 키} 형식의 고유 식별자
      */
     private String generateSagaId() {
-        return "SAGA-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.nextKey("SAGA-");
     }
 }
@@ -1,9 +1,12 @@
 package com.hanumoka.notification.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanumoka.common.codec.PayloadCodecRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.stream.ReadOffset;
@@ -54,4 +57,12 @@ public class RedisStreamConfig {
             }
         }
     }
+
+    /**
+     * 페이로드 디코더 (메시지의 codec 필드로 코덱 선택)
+     */
+    @Bean
+    public PayloadCodecRegistry payloadCodecRegistry(ObjectMapper objectMapper) {
+        return PayloadCodecRegistry.forDecoding(objectMapper);
+    }
 }
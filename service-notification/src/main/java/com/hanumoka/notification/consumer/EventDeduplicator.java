@@ -0,0 +1,106 @@
+package com.hanumoka.notification.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * eventId 기반 중복 이벤트 감지 (Redis 비트맵)
+ *
+ * <h3>Why?</h3>
+ * <p>Pending 재처리, Publisher 재발행(타임아웃 복구) 등으로 같은 이벤트가 다시 전달될 수 있습니다.
+ * 중복 이벤트로 SMS/Email Gateway를 다시 호출하지 않도록 처리 전에 확인합니다.</p>
+ *
+ * <h3>구조</h3>
+ * <pre>
+ * key    = dedupe:{consumerGroup}:{eventId / 1,000,000}   (버킷당 최대 125KB)
+ * offset = eventId % 1,000,000
+ * SETBIT key offset 1 → 이전 값이 1이면 중복
+ * </pre>
+ * <ul>
+ *   <li>Outbox eventId는 증가하는 숫자이므로 최근 이벤트는 소수의 버킷에 모임</li>
+ *   <li>버킷 키는 ttl 후 만료 → 윈도우 크기(메모리)가 제한됨</li>
+ *   <li>처리 실패 시 {@link #release}로 비트를 되돌려 재처리 가능하게 함</li>
+ * </ul>
+ *
+ * <p>주의: 비트 설정 후 처리 도중 프로세스가 종료되면 재전달 시 생략됩니다
+ * (중복 발송 대신 드문 누락을 택함, 필요 시 notification.dedupe.enabled=false).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventDeduplicator {
+
+    private static final String KEY_PREFIX = "dedupe:";
+
+    /**
+     * 버킷당 이벤트 수 (비트 수)
+     */
+    private static final long BUCKET_SIZE = 1_000_000L;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${notification.stream.consumer-group}")
+    private String consumerGroup;
+
+    @Value("${notification.dedupe.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 중복 감지 윈도우 (버킷 키 TTL)
+     */
+    @Value("${notification.dedupe.ttl-hours:168}")
+    private long ttlHours;
+
+    /**
+     * 처리 시작 표시
+     *
+     * @param eventId Outbox 이벤트 ID (없으면 중복 검사 생략)
+     * @return 처음 처리하는 이벤트면 true, 이미 처리한 이벤트면 false
+     */
+    public boolean tryAcquire(Long eventId) {
+        if (!enabled || eventId == null) {
+            return true;
+        }
+
+        String key = keyOf(eventId);
+        Boolean previous = redisTemplate.opsForValue().setBit(key, offsetOf(eventId), true);
+
+        if (Boolean.TRUE.equals(previous)) {
+            log.info("중복 이벤트 감지 → 처리 생략: eventId={}", eventId);
+            return false;
+        }
+
+        redisTemplate.expire(key, Duration.ofHours(ttlHours));
+        return true;
+    }
+
+    /**
+     * 처리 실패 시 표시 해제 (재전달 시 다시 처리)
+     *
+     * @param eventId Outbox 이벤트 ID
+     */
+    public void release(Long eventId) {
+        if (!enabled || eventId == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().setBit(keyOf(eventId), offsetOf(eventId), false);
+        } catch (Exception e) {
+            log.error("중복 감지 표시 해제 실패: eventId={}", eventId, e);
+        }
+    }
+
+    private String keyOf(long eventId) {
+        return KEY_PREFIX + consumerGroup + ":" + (eventId / BUCKET_SIZE);
+    }
+
+    private long offsetOf(long eventId) {
+        return eventId % BUCKET_SIZE;
+    }
+}
@@ -1,18 +1,20 @@
 package com.hanumoka.notification.consumer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hanumoka.common.event.OrderCreatedEvent;
-import com.hanumoka.notification.service.NotificationService;
+import com.hanumoka.common.codec.PayloadCodecRegistry;
+import com.hanumoka.notification.handler.OrderEventHandler;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,7 +24,7 @@ import java.util.Map;
  * <h3>동작 방식</h3>
  * <ol>
  *   <li>XREADGROUP으로 Consumer Group에서 메시지 읽기</li>
- *   <li>eventType에 따라 처리 로직 분기</li>
+ *   <li>eventType으로 {@link OrderEventHandler}를 찾아 디코딩한 이벤트 전달</li>
  *   <li>처리 성공 시 XACK로 확인</li>
  *   <li>처리 실패 시 PEL에 남아 재처리 대상</li>
  * </ol>
@@ -33,6 +35,14 @@ import java.util.Map;
  *   <li>에러 처리 및 재시도 로직 커스터마이징 용이</li>
  *   <li>배치 처리 가능 (한 번에 여러 메시지)</li>
  * </ul>
+ *
+ * <h3>페이로드 디코딩</h3>
+ * <p>payload는 바이너리(CBOR, LZ4 압축 등)일 수 있으므로 바이트 그대로 읽고,
+ * 메시지의 codec 필드로 {@link PayloadCodecRegistry}가 디코딩합니다.
+ * codec 필드가 없는 기존 메시지는 JSON으로 처리합니다.</p>
+ *
+ * <h3>중복 처리 방지</h3>
+ * <p>처리 전에 eventId로 {@link EventDeduplicator}를 확인하여 이미 처리한 이벤트는 ACK만 합니다.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -40,8 +50,11 @@ import java.util.Map;
 public class OrderEventStreamConsumer {
 
     private final StringRedisTemplate redisTemplate;
-    private final NotificationService notificationService;
-    private final ObjectMapper objectMapper;
+    private final PayloadCodecRegistry codecRegistry;
+    private final EventDeduplicator deduplicator;
+    private final List<OrderEventHandler<?>> handlers;
+
+    private Map<String, OrderEventHandler<?>> handlersByEventType;
 
     @Value("${notification.stream.key}")
     private String streamKey;
@@ -58,22 +71,37 @@ public class OrderEventStreamConsumer {
     @Value("${notification.stream.batch-size}")
     private int batchSize;
 
+    /**
+     * eventType → 처리기 맵 (같은 eventType 처리기가 둘 이상이면 기동 실패)
+     */
+    @PostConstruct
+    public void registerHandlers() {
+        Map<String, OrderEventHandler<?>> registered = new HashMap<>();
+        for (OrderEventHandler<?> handler : handlers) {
+            OrderEventHandler<?> duplicate = registered.put(handler.eventType(), handler);
+            if (duplicate != null) {
+                throw new IllegalStateException("Duplicate handler for eventType " + handler.eventType() + ": "
+                        + duplicate.getClass().getSimpleName() + ", " + handler.getClass().getSimpleName());
+            }
+        }
+        handlersByEventType = Map.copyOf(registered);
+        log.info("주문 이벤트 처리기 등록: {}", handlersByEventType.keySet());
+    }
+
     /**
      * 새 메시지 폴링 (1초마다)
      *
      * <p>XREADGROUP GROUP {group} {consumer} COUNT {n} BLOCK {ms} STREAMS {key} ></p>
      * <p>'>' = 아직 전달되지 않은 새 메시지만 읽기</p>
      */
-    @SuppressWarnings("unchecked")
     @Scheduled(fixedDelay = 1000)
     public void pollNewMessages() {
         try {
-            var messages = redisTemplate.opsForStream().read(
-                    Consumer.from(consumerGroup, consumerName),
+            List<ByteRecord> messages = readGroup(
                     StreamReadOptions.empty()
                             .count(batchSize)
                             .block(Duration.ofMillis(pollTimeout)),
-                    StreamOffset.create(streamKey, ReadOffset.lastConsumed())  // '>'
+                    ReadOffset.lastConsumed()  // '>'
             );
 
             if (messages == null || messages.isEmpty()) {
@@ -82,8 +110,8 @@ public class OrderEventStreamConsumer {
 
             log.debug("Redis Stream 메시지 수신: {}개", messages.size());
 
-            for (var message : messages) {
-                processMessage((MapRecord<String, Object, Object>) message);
+            for (ByteRecord message : messages) {
+                processMessage(message);
             }
 
         } catch (Exception e) {
@@ -97,16 +125,14 @@ public class OrderEventStreamConsumer {
      * <p>처리 실패로 ACK되지 않은 메시지를 재처리합니다.</p>
      * <p>60초 이상 Pending 상태인 메시지만 대상</p>
      */
-    @SuppressWarnings("unchecked")
     @Scheduled(fixedRate = 300000)  // 5분마다
     public void processPendingMessages() {
         try {
             // XAUTOCLAIM으로 오래된 Pending 메시지 자동 claim
             // 60초 이상 처리되지 않은 메시지를 이 Consumer가 가져감
-            var pendingMessages = redisTemplate.opsForStream().read(
-                    Consumer.from(consumerGroup, consumerName),
+            List<ByteRecord> pendingMessages = readGroup(
                     StreamReadOptions.empty().count(batchSize),
-                    StreamOffset.create(streamKey, ReadOffset.from("0"))  // Pending 메시지부터
+                    ReadOffset.from("0")  // Pending 메시지부터
             );
 
             if (pendingMessages == null || pendingMessages.isEmpty()) {
@@ -115,8 +141,8 @@ public class OrderEventStreamConsumer {
 
             log.info("Pending 메시지 재처리 시작: {}개", pendingMessages.size());
 
-            for (var message : pendingMessages) {
-                processMessage((MapRecord<String, Object, Object>) message);
+            for (ByteRecord message : pendingMessages) {
+                processMessage(message);
             }
 
         } catch (Exception e) {
@@ -124,22 +150,51 @@ public class OrderEventStreamConsumer {
         }
     }
 
+    /**
+     * XREADGROUP (바이트 단위)
+     *
+     * <p>StringRedisTemplate의 opsForStream()은 값을 UTF-8 문자열로 변환하므로
+     * 바이너리 payload가 깨집니다. 커넥션에서 직접 읽습니다.</p>
+     */
+    private List<ByteRecord> readGroup(StreamReadOptions options, ReadOffset offset) {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xReadGroup(
+                        Consumer.from(consumerGroup, consumerName),
+                        options,
+                        StreamOffset.create(key, offset)));
+    }
+
     /**
      * 메시지 처리
      */
-    private void processMessage(MapRecord<String, Object, Object> message) {
+    private void processMessage(ByteRecord message) {
         RecordId recordId = message.getId();
-        Map<Object, Object> body = message.getValue();
+        Map<String, byte[]> body = toFieldMap(message.getValue());
 
-        String eventType = (String) body.get("eventType");
-        String payload = (String) body.get("payload");
+        String eventType = text(body.get("eventType"));
+        String codec = text(body.get("codec"));
+        byte[] payload = body.get("payload");
+        String eventIdText = text(body.get("eventId"));
+        Long eventId = eventIdText == null ? null : Long.valueOf(eventIdText);
 
-        log.debug("메시지 처리 시작: id={}, eventType={}", recordId, eventType);
+        log.debug("메시지 처리 시작: id={}, eventId={}, eventType={}, codec={}", recordId, eventId, eventType, codec);
 
         try {
-            switch (eventType) {
-                case "OrderCreated" -> handleOrderCreated(payload);
-                default -> log.warn("알 수 없는 이벤트 타입: {}", eventType);
+            // 이미 처리한 이벤트 → 처리 없이 ACK
+            if (deduplicator.tryAcquire(eventId)) {
+                try {
+                    OrderEventHandler<?> handler = eventType == null ? null : handlersByEventType.get(eventType);
+                    if (handler == null) {
+                        log.warn("알 수 없는 이벤트 타입: {}", eventType);
+                    } else {
+                        dispatch(handler, codec, payload);
+                    }
+                } catch (Exception e) {
+                    // 재전달 시 다시 처리되도록 중복 표시 해제
+                    deduplicator.release(eventId);
+                    throw e;
+                }
             }
 
             // 처리 성공 → ACK
@@ -153,15 +208,19 @@ public class OrderEventStreamConsumer {
     }
 
     /**
-     * OrderCreated 이벤트 처리
+     * 처리기의 페이로드 타입으로 디코딩 후 전달
      */
-    private void handleOrderCreated(String payload) throws JsonProcessingException {
-        OrderCreatedEvent event = objectMapper.readValue(payload, OrderCreatedEvent.class);
+    private <T> void dispatch(OrderEventHandler<T> handler, String codec, byte[] payload) {
+        handler.handle(codecRegistry.decode(codec, payload, handler.payloadType()));
+    }
 
-        log.info("주문 생성 이벤트 수신: orderNumber={}, customerId={}",
-                event.getOrderNumber(), event.getCustomerId());
+    private static Map<String, byte[]> toFieldMap(Map<byte[], byte[]> raw) {
+        Map<String, byte[]> fields = new HashMap<>(raw.size());
+        raw.forEach((field, value) -> fields.put(text(field), value));
+        return fields;
+    }
 
-        // 알림 발송
-        notificationService.sendOrderConfirmation(event);
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
     }
 }
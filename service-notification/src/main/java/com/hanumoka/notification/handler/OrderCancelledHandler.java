@@ -0,0 +1,36 @@
+package com.hanumoka.notification.handler;
+
+import com.hanumoka.common.event.OrderCancelledEvent;
+import com.hanumoka.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderCancelled 이벤트 처리 (주문 취소 알림)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCancelledHandler implements OrderEventHandler<OrderCancelledEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String eventType() {
+        return "OrderCancelled";
+    }
+
+    @Override
+    public Class<OrderCancelledEvent> payloadType() {
+        return OrderCancelledEvent.class;
+    }
+
+    @Override
+    public void handle(OrderCancelledEvent event) {
+        log.info("주문 취소 이벤트 수신: orderNumber={}, customerId={}, reason={}",
+                event.getOrderNumber(), event.getCustomerId(), event.getReason());
+
+        notificationService.sendOrderCancelled(event);
+    }
+}
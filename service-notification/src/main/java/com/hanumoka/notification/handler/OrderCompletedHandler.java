@@ -0,0 +1,36 @@
+package com.hanumoka.notification.handler;
+
+import com.hanumoka.common.event.OrderCompletedEvent;
+import com.hanumoka.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderCompleted 이벤트 처리 (주문 완료 알림)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCompletedHandler implements OrderEventHandler<OrderCompletedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String eventType() {
+        return "OrderCompleted";
+    }
+
+    @Override
+    public Class<OrderCompletedEvent> payloadType() {
+        return OrderCompletedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderCompletedEvent event) {
+        log.info("주문 완료 이벤트 수신: orderNumber={}, customerId={}",
+                event.getOrderNumber(), event.getCustomerId());
+
+        notificationService.sendOrderCompleted(event);
+    }
+}
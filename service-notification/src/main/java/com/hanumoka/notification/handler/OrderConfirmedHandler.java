@@ -0,0 +1,36 @@
+package com.hanumoka.notification.handler;
+
+import com.hanumoka.common.event.OrderConfirmedEvent;
+import com.hanumoka.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderConfirmed 이벤트 처리 (주문 확정 알림)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderConfirmedHandler implements OrderEventHandler<OrderConfirmedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String eventType() {
+        return "OrderConfirmed";
+    }
+
+    @Override
+    public Class<OrderConfirmedEvent> payloadType() {
+        return OrderConfirmedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderConfirmedEvent event) {
+        log.info("주문 확정 이벤트 수신: orderNumber={}, customerId={}",
+                event.getOrderNumber(), event.getCustomerId());
+
+        notificationService.sendOrderConfirmed(event);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hanumoka.notification.handler;
+
+import com.hanumoka.common.event.OrderCreatedEvent;
+import com.hanumoka.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderCreated 이벤트 처리 (주문 접수 알림)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCreatedHandler implements OrderEventHandler<OrderCreatedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String eventType() {
+        return "OrderCreated";
+    }
+
+    @Override
+    public Class<OrderCreatedEvent> payloadType() {
+        return OrderCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderCreatedEvent event) {
+        log.info("주문 생성 이벤트 수신: orderNumber={}, customerId={}",
+                event.getOrderNumber(), event.getCustomerId());
+
+        notificationService.sendOrderConfirmation(event);
+    }
+}
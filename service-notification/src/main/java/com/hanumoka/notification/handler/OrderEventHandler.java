@@ -0,0 +1,25 @@
+package com.hanumoka.notification.handler;
+
+/**
+ * 주문 이벤트 타입별 처리기
+ *
+ * <p>{@link com.hanumoka.notification.consumer.OrderEventStreamConsumer}가 기동 시 eventType → 처리기 맵을 만들고,
+ * 메시지의 eventType으로 처리기를 찾아 {@link #payloadType()}으로 디코딩한 이벤트를 전달합니다.
+ * 새 이벤트를 처리하려면 이 인터페이스를 구현한 Bean을 추가하면 됩니다.</p>
+ *
+ * @param <T> 이벤트 페이로드 타입
+ */
+public interface OrderEventHandler<T> {
+
+    /**
+     * 처리할 이벤트 타입 (Stream 메시지의 eventType 필드, 예: OrderCreated)
+     */
+    String eventType();
+
+    /**
+     * 페이로드 디코딩 대상 타입
+     */
+    Class<T> payloadType();
+
+    void handle(T event);
+}
@@ -1,5 +1,8 @@
 package com.hanumoka.notification.service;
 
+import com.hanumoka.common.event.OrderCancelledEvent;
+import com.hanumoka.common.event.OrderCompletedEvent;
+import com.hanumoka.common.event.OrderConfirmedEvent;
 import com.hanumoka.common.event.OrderCreatedEvent;
 import com.hanumoka.notification.gateway.EmailGateway;
 import com.hanumoka.notification.gateway.SmsGateway;
@@ -7,12 +10,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 /**
  * 알림 발송 서비스
  *
  * <h3>역할</h3>
  * <ul>
  *   <li>주문 확인 알림 발송 (SMS + Email)</li>
+ *   <li>주문 상태 변경 알림 발송 (확정, 취소, 완료)</li>
  *   <li>Gateway 추상화를 통한 실제/Fake 구현 교체</li>
  * </ul>
  */
@@ -30,16 +37,64 @@ public class NotificationService {
      * @param event 주문 생성 이벤트
      */
     public void sendOrderConfirmation(OrderCreatedEvent event) {
+        send("주문 확인", event.getOrderNumber(), event.getCustomerId(),
+                buildSmsMessage(event), buildEmailSubject(event), buildEmailBody(event));
+    }
+
+    /**
+     * 주문 확정 알림 발송
+     *
+     * @param event 주문 확정 이벤트
+     */
+    public void sendOrderConfirmed(OrderConfirmedEvent event) {
         String orderNumber = event.getOrderNumber();
-        Long customerId = event.getCustomerId();
+        send("주문 확정", orderNumber, event.getCustomerId(),
+                String.format("[주문확정] 주문번호 %s의 결제가 완료되어 주문이 확정되었습니다.", orderNumber),
+                String.format("[주문확정] 주문번호 %s", orderNumber),
+                buildStatusEmailBody("결제가 완료되어 주문이 확정되었습니다.", orderNumber,
+                        event.getTotalAmount(), event.getOccurredAt()));
+    }
 
-        log.info("주문 확인 알림 발송 시작: orderNumber={}, customerId={}",
-                orderNumber, customerId);
+    /**
+     * 주문 취소 알림 발송
+     *
+     * @param event 주문 취소 이벤트
+     */
+    public void sendOrderCancelled(OrderCancelledEvent event) {
+        String orderNumber = event.getOrderNumber();
+        send("주문 취소", orderNumber, event.getCustomerId(),
+                String.format("[주문취소] 주문번호 %s가 취소되었습니다.", orderNumber),
+                String.format("[주문취소] 주문번호 %s", orderNumber),
+                buildStatusEmailBody("PENDING_TIMEOUT".equals(event.getReason())
+                                ? "주문 처리가 제한 시간 안에 완료되지 않아 취소되었습니다. 결제된 금액은 환불 처리됩니다."
+                                : "주문이 취소되었습니다. 결제된 금액은 환불 처리됩니다.", orderNumber,
+                        event.getTotalAmount(), event.getOccurredAt()));
+    }
+
+    /**
+     * 주문 완료 알림 발송
+     *
+     * @param event 주문 완료 이벤트
+     */
+    public void sendOrderCompleted(OrderCompletedEvent event) {
+        String orderNumber = event.getOrderNumber();
+        send("주문 완료", orderNumber, event.getCustomerId(),
+                String.format("[주문완료] 주문번호 %s의 배송이 완료되었습니다. 감사합니다!", orderNumber),
+                String.format("[주문완료] 주문번호 %s", orderNumber),
+                buildStatusEmailBody("주문하신 상품의 배송이 완료되었습니다.", orderNumber,
+                        event.getTotalAmount(), event.getOccurredAt()));
+    }
+
+    /**
+     * SMS + Email 발송 (SMS 실패해도 Email은 시도)
+     */
+    private void send(String kind, String orderNumber, Long customerId,
+                      String smsMessage, String emailSubject, String emailBody) {
+        log.info("{} 알림 발송 시작: orderNumber={}, customerId={}", kind, orderNumber, customerId);
 
         // SMS 발송
         try {
             String phoneNumber = getPhoneNumber(customerId);
-            String smsMessage = buildSmsMessage(event);
             smsGateway.send(phoneNumber, smsMessage);
             log.info("SMS 발송 완료: orderNumber={}, phone={}", orderNumber, maskPhone(phoneNumber));
         } catch (Exception e) {
@@ -50,15 +105,13 @@ public class NotificationService {
         // Email 발송
         try {
             String email = getEmail(customerId);
-            String subject = buildEmailSubject(event);
-            String body = buildEmailBody(event);
-            emailGateway.send(email, subject, body);
+            emailGateway.send(email, emailSubject, emailBody);
             log.info("Email 발송 완료: orderNumber={}, email={}", orderNumber, maskEmail(email));
         } catch (Exception e) {
             log.error("Email 발송 실패: orderNumber={}", orderNumber, e);
         }
 
-        log.info("주문 확인 알림 발송 완료: orderNumber={}", orderNumber);
+        log.info("{} 알림 발송 완료: orderNumber={}", kind, orderNumber);
     }
 
     /**
@@ -104,6 +157,26 @@ public class NotificationService {
         );
     }
 
+    private String buildStatusEmailBody(String message, String orderNumber,
+                                        BigDecimal totalAmount, LocalDateTime occurredAt) {
+        return String.format("""
+                안녕하세요, 고객님!
+
+                %s
+
+                - 주문번호: %s
+                - 주문금액: %s원
+                - 변경일시: %s
+
+                감사합니다.
+                """,
+                message,
+                orderNumber,
+                totalAmount,
+                occurredAt
+        );
+    }
+
     private String maskPhone(String phone) {
         if (phone == null || phone.length() < 8) return "***";
         return phone.substring(0, 3) + "-****-" + phone.substring(phone.length() - 4);
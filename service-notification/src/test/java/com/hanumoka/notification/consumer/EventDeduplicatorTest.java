@@ -0,0 +1,114 @@
+package com.hanumoka.notification.consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비트맵 중복 감지의 키/오프셋 계산과 acquire/release 규칙 검증 (Redis는 Mock)
+ */
+@ExtendWith(MockitoExtension.class)
+class EventDeduplicatorTest {
+
+    private static final long EVENT_ID = 2_000_005L;
+    private static final String BUCKET_KEY = "dedupe:notification-group:2";
+    private static final long OFFSET = 5L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new EventDeduplicator(redisTemplate);
+        ReflectionTestUtils.setField(deduplicator, "consumerGroup", "notification-group");
+        ReflectionTestUtils.setField(deduplicator, "enabled", true);
+        ReflectionTestUtils.setField(deduplicator, "ttlHours", 168L);
+    }
+
+    @Test
+    @DisplayName("처음 보는 eventId: 버킷 비트 설정 후 TTL 갱신, true")
+    void firstDeliveryIsAcquired() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setBit(BUCKET_KEY, OFFSET, true)).thenReturn(false);
+
+        assertThat(deduplicator.tryAcquire(EVENT_ID)).isTrue();
+        verify(redisTemplate).expire(BUCKET_KEY, Duration.ofHours(168));
+    }
+
+    @Test
+    @DisplayName("이미 비트가 설정된 eventId (재전달): false, TTL 갱신 안 함")
+    void redeliveryIsRejected() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setBit(BUCKET_KEY, OFFSET, true)).thenReturn(true);
+
+        assertThat(deduplicator.tryAcquire(EVENT_ID)).isFalse();
+        verify(redisTemplate, never()).expire(any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("release는 같은 비트를 되돌림 (실패한 처리를 재전달 시 다시 처리)")
+    void releaseClearsSameBit() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        deduplicator.release(EVENT_ID);
+
+        verify(valueOperations).setBit(BUCKET_KEY, OFFSET, false);
+    }
+
+    @Test
+    @DisplayName("release 중 Redis 오류는 전파하지 않음")
+    void releaseSwallowsRedisFailure() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setBit(BUCKET_KEY, OFFSET, false))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> deduplicator.release(EVENT_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("버킷 경계: 999,999는 버킷 0의 마지막 비트, 1,000,000은 버킷 1의 첫 비트")
+    void bucketBoundaries() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        deduplicator.tryAcquire(999_999L);
+        deduplicator.tryAcquire(1_000_000L);
+
+        verify(valueOperations).setBit("dedupe:notification-group:0", 999_999L, true);
+        verify(valueOperations).setBit("dedupe:notification-group:1", 0L, true);
+    }
+
+    @Test
+    @DisplayName("eventId 없음 또는 비활성화: Redis 접근 없이 항상 처리")
+    void skipsWhenDisabledOrNoEventId() {
+        assertThat(deduplicator.tryAcquire(null)).isTrue();
+
+        ReflectionTestUtils.setField(deduplicator, "enabled", false);
+        assertThat(deduplicator.tryAcquire(EVENT_ID)).isTrue();
+        assertThat(deduplicator.tryAcquire(EVENT_ID)).isTrue();
+        deduplicator.release(EVENT_ID);
+
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,336 @@
+package com.hanumoka.order.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hanumoka.common.datasource.ReadWriteRoutingDataSource;
+import com.hanumoka.common.exception.BusinessException;
+import com.hanumoka.common.exception.ErrorCode;
+import com.hanumoka.order.entity.Order;
+import com.hanumoka.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 조회 2단 캐시 (Caffeine near-cache → Redis → MySQL)
+ *
+ * <h3>Why?</h3>
+ * <p>Saga, 고객 화면, 운영 도구가 같은 주문을 반복 조회(polling)하여 매번 MySQL을 조회합니다.</p>
+ *
+ * <h3>조회 흐름 (read-through)</h3>
+ * <ol>
+ *   <li>인스턴스 메모리(Caffeine, 최대 local-max-size개)</li>
+ *   <li>Redis (order:view:{id} 해시, version + view JSON)</li>
+ *   <li>MySQL 조회 후 Redis + Caffeine에 저장</li>
+ * </ol>
+ * <p>주문번호 조회는 주문번호 → ID 매핑(불변)을 따로 캐시한 뒤 ID로 조회합니다.</p>
+ *
+ * <h3>무효화</h3>
+ * <ul>
+ *   <li>상태 전이 트랜잭션 커밋 후 Redis 키를 툼스톤(커밋된 version만 있고 view 없음, tombstone-ttl-seconds)으로 교체
+ *       + Pub/Sub 채널({@value #INVALIDATION_CHANNEL})로 ID 발행</li>
+ *   <li>모든 인스턴스가 메시지를 받아 Caffeine 항목 제거 → near-cache 일관성 유지</li>
+ *   <li>커밋 전에 지우면 다른 요청이 이전 값을 다시 채울 수 있으므로 afterCommit에서 실행</li>
+ * </ul>
+ *
+ * <h3>오래된 값 채우기 방지 (version CAS)</h3>
+ * <p>DB에서 이전 버전을 읽은 요청이 무효화보다 늦게 Redis에 쓰면 TTL 동안 이전 상태가 남습니다.</p>
+ * <pre>
+ * 요청 A: DB 조회 (version 3) ─────────────────────────── Redis 저장 (version 3) → 거부
+ * 요청 B:              전이 커밋 (version 4) → 툼스톤 (version 4)
+ * </pre>
+ * <p>Redis 저장은 Lua 스크립트로 현재 키의 version과 비교하여, 같은 버전의 툼스톤이거나 더 낮은 버전일 때만 씁니다.
+ * 툼스톤은 DB 조회 ~ Redis 저장 사이 시간보다 길게 유지되면 충분합니다.</p>
+ *
+ * <h3>TTL 상한 (항목별)</h3>
+ * <p>Pub/Sub은 전달을 보장하지 않으므로 모든 항목에 TTL 상한을 둡니다.
+ * 진행 중 주문(PENDING, CONFIRMED)은 active-ttl-seconds, 종료된 주문은 ttl-seconds를 적용합니다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>cache.gets / cache.evictions 등 (cache=order.view.local) - Caffeine 적중/미스/제거</li>
+ *   <li>order.cache.redis.requests (result=hit|miss) - Redis 단계 적중/미스</li>
+ *   <li>order.cache.invalidations - 수신한 무효화 메시지 수</li>
+ * </ul>
+ *
+ * <p>Redis 장애 시에는 Redis 단계를 건너뛰고 MySQL을 조회합니다 (조회 실패로 이어지지 않음).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReadCache {
+
+    static final String INVALIDATION_CHANNEL = "order:cache:invalidate";
+
+    private static final String VIEW_KEY_PREFIX = "order:view:";
+    private static final String NUMBER_KEY_PREFIX = "order:number:";
+
+    /**
+     * KEYS: [order:view:{id}]
+     * ARGV: [version, view JSON, TTL(ms)]
+     * 반환: 저장했으면 1, 같거나 새로운 값(또는 더 새로운 툼스톤)이 있어 건너뛰었으면 0
+     */
+    private static final String FILL_SCRIPT = """
+            local current = redis.call('HMGET', KEYS[1], 'version', 'view')
+            if current[1] then
+              local version = tonumber(current[1])
+              local incoming = tonumber(ARGV[1])
+              if version > incoming or (version == incoming and current[2]) then return 0 end
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'version', ARGV[1], 'view', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """;
+
+    /**
+     * KEYS: [order:view:{id}]
+     * ARGV: [커밋된 version, 툼스톤 TTL(ms)]
+     * 반환: 툼스톤을 썼으면 1, 더 새로운 버전이 이미 있으면 0
+     */
+    private static final String TOMBSTONE_SCRIPT = """
+            local version = redis.call('HGET', KEYS[1], 'version')
+            if version and tonumber(version) > tonumber(ARGV[1]) then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'version', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    private static final RedisScript<Long> FILL = new DefaultRedisScript<>(FILL_SCRIPT, Long.class);
+    private static final RedisScript<Long> TOMBSTONE = new DefaultRedisScript<>(TOMBSTONE_SCRIPT, Long.class);
+
+    private final OrderRepository orderRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시 TTL 상한 (종료된 주문, 주문번호 매핑)
+     */
+    @Value("${order.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    /**
+     * 진행 중 주문의 캐시 TTL
+     */
+    @Value("${order.cache.active-ttl-seconds:30}")
+    private long activeTtlSeconds;
+
+    /**
+     * 무효화 툼스톤 유지 시간 (DB 조회 ~ Redis 저장 사이 최대 지연보다 길게)
+     */
+    @Value("${order.cache.tombstone-ttl-seconds:10}")
+    private long tombstoneTtlSeconds;
+
+    @Value("${order.cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    private Cache<Long, OrderView> viewCache;
+    private Cache<String, Long> orderIdByNumber;
+
+    private Counter redisHits;
+    private Counter redisMisses;
+    private Counter invalidations;
+
+    @PostConstruct
+    public void init() {
+        viewCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(Expiry.creating((Long id, OrderView view) -> ttlOf(view)))
+                .recordStats()
+                .build();
+        orderIdByNumber = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, viewCache, "order.view.local");
+        redisHits = Counter.builder("order.cache.redis.requests").tag("result", "hit").register(meterRegistry);
+        redisMisses = Counter.builder("order.cache.redis.requests").tag("result", "miss").register(meterRegistry);
+        invalidations = Counter.builder("order.cache.invalidations")
+                .description("수신한 주문 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 주문 조회 (ID)
+     *
+     * @throws BusinessException ORDER_NOT_FOUND
+     */
+    public OrderView getById(Long orderId) {
+        return viewCache.get(orderId, this::loadView);
+    }
+
+    /**
+     * 주문 조회 (주문번호)
+     *
+     * @throws BusinessException ORDER_NOT_FOUND
+     */
+    public OrderView getByOrderNumber(String orderNumber) {
+        return getById(orderIdByNumber.get(orderNumber, this::loadOrderId));
+    }
+
+    /**
+     * 주문 캐시 무효화 (트랜잭션 안이면 커밋 후 실행, 롤백 시 실행 안 함)
+     *
+     * @param orderId 상태가 바뀐 주문 ID
+     * @param version 전이로 커밋되는 version (이보다 낮은 버전은 Redis에 다시 채워지지 않음)
+     */
+    public void evictAfterCommit(Long orderId, Long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(orderId, version);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(orderId, version);
+            }
+        });
+    }
+
+    private void evict(Long orderId, Long version) {
+        viewCache.invalidate(orderId);
+        try {
+            redisTemplate.execute(TOMBSTONE, List.of(VIEW_KEY_PREFIX + orderId),
+                    String.valueOf(versionOf(version)), String.valueOf(tombstoneTtlSeconds * 1000));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(orderId));
+        } catch (Exception e) {
+            // 다른 인스턴스의 near-cache는 TTL 상한까지 이전 값을 볼 수 있음
+            log.warn("주문 캐시 무효화 전파 실패: orderId={}", orderId, e);
+        }
+    }
+
+    private void onInvalidation(String orderId) {
+        try {
+            viewCache.invalidate(Long.valueOf(orderId));
+            invalidations.increment();
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 주문 캐시 무효화 메시지: {}", orderId);
+        }
+    }
+
+    /**
+     * Redis → MySQL 순서로 조회 (Caffeine 미스 시)
+     */
+    private OrderView loadView(Long orderId) {
+        String key = VIEW_KEY_PREFIX + orderId;
+
+        String cached = redisGetView(key);
+        if (cached != null) {
+            try {
+                OrderView view = objectMapper.readValue(cached, OrderView.class);
+                redisHits.increment();
+                return view;
+            } catch (JsonProcessingException e) {
+                log.warn("주문 캐시 역직렬화 실패 → DB 조회: orderId={}", orderId, e);
+            }
+        }
+        redisMisses.increment();
+
+        // 무효화 직후 복제본의 이전 상태를 TTL 동안 캐시하지 않도록 primary에서 조회
+        Order order = ReadWriteRoutingDataSource.onPrimary(() -> orderRepository.findById(orderId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND.toErrorInfo()));
+        OrderView view = OrderView.from(order);
+
+        try {
+            redisFill(key, view.version(), objectMapper.writeValueAsString(view), ttlOf(view));
+        } catch (JsonProcessingException e) {
+            log.warn("주문 캐시 직렬화 실패: orderId={}", orderId, e);
+        }
+        return view;
+    }
+
+    /**
+     * 주문번호 → 주문 ID (생성 후 바뀌지 않는 매핑)
+     */
+    private Long loadOrderId(String orderNumber) {
+        String key = NUMBER_KEY_PREFIX + orderNumber;
+
+        String cached = redisGet(key);
+        if (cached != null) {
+            return Long.valueOf(cached);
+        }
+
+        Long orderId = orderRepository.findIdByOrderNumber(orderNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND.toErrorInfo()));
+        redisSet(key, String.valueOf(orderId), Duration.ofSeconds(ttlSeconds));
+        return orderId;
+    }
+
+    private Duration ttlOf(OrderView view) {
+        return Duration.ofSeconds(view.isTerminal() ? ttlSeconds : Math.min(activeTtlSeconds, ttlSeconds));
+    }
+
+    private static long versionOf(Long version) {
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * view 필드 조회 (툼스톤이면 null → DB 조회)
+     */
+    private String redisGetView(String key) {
+        try {
+            Object view = redisTemplate.opsForHash().get(key, "view");
+            return view != null ? view.toString() : null;
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패 → DB 조회: key={}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * version CAS로 저장 (더 새로운 값이나 툼스톤이 있으면 건너뜀)
+     */
+    private void redisFill(String key, Long version, String view, Duration ttl) {
+        try {
+            redisTemplate.execute(FILL, List.of(key),
+                    String.valueOf(versionOf(version)), view, String.valueOf(ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private String redisGet(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패 → DB 조회: key={}", key, e);
+            return null;
+        }
+    }
+
+    private void redisSet(String key, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, value, ttl);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패: key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hanumoka.order.cache;
+
+import com.hanumoka.order.entity.Order;
+import com.hanumoka.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 캐시용 주문 스냅샷 (엔티티 대신 불변 값만 보관)
+ *
+ * @param id          주문 ID
+ * @param orderNumber 주문 번호
+ * @param customerId  고객 ID
+ * @param status      주문 상태
+ * @param totalAmount 총금액
+ * @param version     조회 시점의 버전
+ * @param createdAt   생성일시
+ * @param updatedAt   수정일시
+ */
+public record OrderView(
+        Long id,
+        String orderNumber,
+        Long customerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static OrderView from(Order order) {
+        return new OrderView(
+                order.getId(),
+                order.getOrderNumber(),
+                order.getCustomerId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getVersion(),
+                order.getCreatedAt(),
+                order.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 주문 (캐시를 오래 유지해도 안전)
+     */
+    public boolean isTerminal() {
+        return status == OrderStatus.COMPLETED || status == OrderStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hanumoka.order.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 주문 조회 캐시 설정
+ *
+ * <p>Redis Pub/Sub 구독 컨테이너 (인스턴스 간 near-cache 무효화 메시지 수신용)</p>
+ */
+@Configuration
+public class OrderCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -0,0 +1,72 @@
+package com.hanumoka.order.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanumoka.common.codec.PayloadCodecRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outbox 발행 페이로드 코덱 설정
+ *
+ * <pre>
+ * outbox:
+ *   codec:
+ *     default: json                      # json | cbor
+ *     event-types: OrderCreated:cbor     # 이벤트 타입별 코덱 (쉼표 구분)
+ *     compression-threshold: 1024        # 이 크기(바이트)를 넘으면 LZ4 압축 (0: 압축 안 함)
+ * </pre>
+ *
+ * <p>기본값은 json + 압축 없음입니다. cbor/LZ4는 모든 Consumer가 디코딩할 수 있게 배포된 뒤에만 켭니다.
+ * 롤링 배포 중 먼저 켜면 이전 버전 Consumer가 메시지를 읽지 못합니다.</p>
+ */
+@Configuration
+public class OutboxCodecConfig {
+
+    @Bean
+    public PayloadCodecRegistry payloadCodecRegistry(
+            ObjectMapper objectMapper,
+            @Value("${outbox.codec.default:json}") String defaultCodec,
+            @Value("${outbox.codec.event-types:}") String eventTypeCodecs,
+            @Value("${outbox.codec.compression-threshold:0}") int compressionThreshold) {
+        return new PayloadCodecRegistry(objectMapper, defaultCodec,
+                parseEventTypeCodecs(eventTypeCodecs), compressionThreshold);
+    }
+
+    /**
+     * "OrderCreated:cbor,OrderCancelled:json" → {OrderCreated=cbor, OrderCancelled=json}
+     *
+     * @throws IllegalArgumentException 형식이 type:codec이 아니거나, 알 수 없는 코덱이거나, 이벤트 타입이 중복된 항목
+     */
+    static Map<String, String> parseEventTypeCodecs(String value) {
+        Map<String, String> codecByEventType = new LinkedHashMap<>();
+        for (String raw : value.split(",")) {
+            String entry = raw.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+
+            int separator = entry.indexOf(':');
+            String eventType = separator < 0 ? "" : entry.substring(0, separator).trim();
+            String codec = separator < 0 ? "" : entry.substring(separator + 1).trim();
+            if (eventType.isEmpty() || codec.isEmpty()) {
+                throw invalidEntry(entry, "expected <eventType>:<codec>");
+            }
+            if (!PayloadCodecRegistry.CODEC_IDS.contains(codec)) {
+                throw invalidEntry(entry, "unknown codec '" + codec + "', supported: " + PayloadCodecRegistry.CODEC_IDS);
+            }
+            if (codecByEventType.putIfAbsent(eventType, codec) != null) {
+                throw invalidEntry(entry, "duplicate event type '" + eventType + "'");
+            }
+        }
+        return codecByEventType;
+    }
+
+    private static IllegalArgumentException invalidEntry(String entry, String reason) {
+        return new IllegalArgumentException(
+                "Invalid outbox.codec.event-types entry '" + entry + "': " + reason);
+    }
+}
@@ -1,11 +1,20 @@
 package com.hanumoka.order.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanumoka.common.dto.ApiResponse;
+import com.hanumoka.order.cache.OrderReadCache;
+import com.hanumoka.order.cache.OrderView;
 import com.hanumoka.order.entity.Order;
 import com.hanumoka.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -14,6 +23,8 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderReadCache orderReadCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * 주문 생성
@@ -25,33 +36,78 @@ public class OrderController {
     }
 
     /**
-     * 주문 조회 (ID)
+     * 일괄 주문 생성 (B2B 대량 등록, 단일 트랜잭션)
+     */
+    @PostMapping("/batch")
+    public ApiResponse<List<OrderResponse>> createOrders(@RequestBody BatchCreateOrderRequest request) {
+        List<Order> orders = orderService.createOrders(request.orders());
+        List<OrderResponse> responses = orders.stream()
+                .map(OrderResponse::from)
+                .toList();
+        return ApiResponse.success(responses);
+    }
+
+    /**
+     * 주문 조회 (ID, 2단 캐시)
      */
     @GetMapping("/{orderId}")
     public ApiResponse<OrderResponse> getOrder(@PathVariable Long orderId) {
-        Order order = orderService.getOrder(orderId);
+        OrderView order = orderReadCache.getById(orderId);
         return ApiResponse.success(OrderResponse.from(order));
     }
 
     /**
-     * 주문 조회 (주문번호)
+     * 주문 조회 (주문번호, 2단 캐시)
      */
     @GetMapping("/by-order-number/{orderNumber}")
     public ApiResponse<OrderResponse> getOrderByOrderNumber(@PathVariable String orderNumber) {
-        Order order = orderService.getOrderByOrderNumber(orderNumber);
+        OrderView order = orderReadCache.getByOrderNumber(orderNumber);
         return ApiResponse.success(OrderResponse.from(order));
     }
 
     /**
-     * 고객별 주문 목록 조회
+     * 고객별 주문 목록 조회 (keyset 페이지네이션, 최신순)
+     *
+     * <p>다음 페이지는 응답의 nextCursor를 after로 전달합니다.</p>
      */
     @GetMapping("/customer/{customerId}")
-    public ApiResponse<List<OrderResponse>> getOrdersByCustomerId(@PathVariable Long customerId) {
-        List<Order> orders = orderService.getOrdersByCustomerId(customerId);
-        List<OrderResponse> responses = orders.stream()
-                .map(OrderResponse::from)
-                .toList();
-        return ApiResponse.success(responses);
+    public ApiResponse<OrderPageResponse> getOrdersByCustomerId(@PathVariable Long customerId,
+                                                                @RequestParam(required = false) Long after,
+                                                                @RequestParam(defaultValue = "50") int size) {
+        OrderService.OrderPage page = orderService.getOrdersByCustomerId(customerId, after, size);
+        return ApiResponse.success(OrderPageResponse.from(page));
+    }
+
+    /**
+     * 고객별 주문 전체 내보내기 (NDJSON 스트리밍, 한 줄에 주문 하나)
+     *
+     * <p>DB 결과를 한 행씩 읽어 바로 응답에 쓰므로 주문 수와 무관하게 메모리 사용량이 일정합니다.</p>
+     *
+     * <p>StreamingResponseBody는 MVC 비동기 요청 시간 제한을 받습니다.
+     * 컨테이너 기본값(Tomcat 30초)이면 대형 고객 내보내기가 중간에 끊기므로
+     * spring.mvc.async.request-timeout으로 상한을 명시합니다 (기본 30분).</p>
+     */
+    @GetMapping(value = "/customer/{customerId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrdersByCustomerId(@PathVariable Long customerId) {
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);  // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+
+            orderService.forEachOrderByCustomerId(customerId, order -> {
+                try {
+                    generator.writeObject(OrderResponse.from(order));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -72,6 +128,12 @@ public class OrderController {
         return ApiResponse.success(OrderResponse.from(order));
     }
 
+    // 요청 DTO (내부 클래스)
+    public record BatchCreateOrderRequest(
+            List<OrderService.NewOrder> orders
+    ) {
+    }
+
     // 응답 DTO (내부 클래스)
     public record OrderResponse(
             Long id,
@@ -89,5 +151,29 @@ public class OrderController {
                     order.getTotalAmount().toString()
             );
         }
+
+        public static OrderResponse from(OrderView order) {
+            return new OrderResponse(
+                    order.id(),
+                    order.orderNumber(),
+                    order.customerId(),
+                    order.status().name(),
+                    order.totalAmount().toString()
+            );
+        }
+    }
+
+    public record OrderPageResponse(
+            List<OrderResponse> orders,
+            Long nextCursor,
+            boolean hasNext
+    ) {
+        public static OrderPageResponse from(OrderService.OrderPage page) {
+            return new OrderPageResponse(
+                    page.orders().stream().map(OrderResponse::from).toList(),
+                    page.nextCursor(),
+                    page.nextCursor() != null
+            );
+        }
     }
 }
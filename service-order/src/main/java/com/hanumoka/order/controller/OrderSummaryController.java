@@ -0,0 +1,99 @@
+package com.hanumoka.order.controller;
+
+import com.hanumoka.common.dto.ApiResponse;
+import com.hanumoka.order.entity.OrderStatus;
+import com.hanumoka.order.projection.OrderSummary;
+import com.hanumoka.order.projection.OrderSummaryRebuilder;
+import com.hanumoka.order.projection.OrderSummaryStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 요약 조회 API (CQRS 조회 모델)
+ *
+ * <p>모든 조회는 Redis 조회 모델({@link OrderSummaryStore})만 읽고 orders 테이블에 접근하지 않습니다.
+ * 이벤트 반영 지연만큼 최신 상태보다 늦을 수 있습니다 (eventual consistency).</p>
+ */
+@RestController
+@RequestMapping("/api/order-summaries")
+@RequiredArgsConstructor
+public class OrderSummaryController {
+
+    private final OrderSummaryStore summaryStore;
+    private final OrderSummaryRebuilder rebuilder;
+
+    /**
+     * 페이지 크기 상한
+     */
+    @Value("${order.projection.max-page-size:200}")
+    private int maxPageSize;
+
+    /**
+     * 고객별 주문 요약 (최신순)
+     *
+     * <p>다음 페이지는 응답의 nextOffset을 offset으로 전달합니다.</p>
+     */
+    @GetMapping("/customer/{customerId}")
+    public ApiResponse<SummaryPageResponse> getByCustomerId(@PathVariable Long customerId,
+                                                            @RequestParam(defaultValue = "0") long offset,
+                                                            @RequestParam(defaultValue = "50") int size) {
+        int pageSize = pageSize(size);
+        long start = Math.max(0, offset);
+        return ApiResponse.success(SummaryPageResponse.of(
+                summaryStore.findByCustomerId(customerId, start, pageSize), start, pageSize));
+    }
+
+    /**
+     * 상태별 주문 요약 (최신순)
+     */
+    @GetMapping("/status/{status}")
+    public ApiResponse<SummaryPageResponse> getByStatus(@PathVariable OrderStatus status,
+                                                        @RequestParam(defaultValue = "0") long offset,
+                                                        @RequestParam(defaultValue = "50") int size) {
+        int pageSize = pageSize(size);
+        long start = Math.max(0, offset);
+        return ApiResponse.success(SummaryPageResponse.of(
+                summaryStore.findByStatus(status.name(), start, pageSize), start, pageSize));
+    }
+
+    /**
+     * 상태별 주문 건수
+     */
+    @GetMapping("/status-counts")
+    public ApiResponse<Map<String, Long>> getStatusCounts() {
+        return ApiResponse.success(summaryStore.countByStatus());
+    }
+
+    /**
+     * 조회 모델 전체 재구축 (백그라운드 실행)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Boolean>> rebuild() {
+        boolean started = rebuilder.rebuildAsync();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(ApiResponse.success(started));
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    // 응답 DTO (내부 클래스)
+    public record SummaryPageResponse(
+            List<OrderSummary> orders,
+            Long nextOffset,
+            boolean hasNext
+    ) {
+        static SummaryPageResponse of(List<OrderSummary> orders, long offset, int size) {
+            // 한 페이지가 가득 찼으면 다음 페이지가 있을 수 있음 (ZSET 크기 조회 없음)
+            boolean hasNext = orders.size() == size;
+            return new SummaryPageResponse(orders, hasNext ? offset + size : null, hasNext);
+        }
+    }
+}
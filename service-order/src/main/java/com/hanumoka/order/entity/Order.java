@@ -17,8 +17,21 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
+    /**
+     * ID 범위 할당 크기 (hibernate.jdbc.batch_size와 같게)
+     */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    /**
+     * ID 채번: id_sequences 테이블에서 {@value #ID_ALLOCATION_SIZE}개씩 범위 할당 (pooled)
+     *
+     * <p>IDENTITY는 INSERT 배치를 비활성화하므로 persist 시점에 ID를 알 수 있는 방식을 사용합니다.</p>
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_gen")
+    @TableGenerator(name = "order_id_gen", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "orders", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "order_number", nullable = false, unique = true, length = 50)
@@ -78,10 +91,6 @@ public class Order {
         calculateTotalAmount();
     }
 
-    public void updateStatus(OrderStatus newStatus) {
-        this.status = newStatus;
-    }
-
     private void calculateTotalAmount() {
         this.totalAmount = orderItems.stream()
                 .map(OrderItem::getSubtotal)
@@ -1,11 +1,39 @@
 package com.hanumoka.order.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 주문 상태
+ *
+ * <h3>전이 규칙</h3>
+ * <pre>
+ * PENDING   → CONFIRMED, CANCELLED
+ * CONFIRMED → COMPLETED, CANCELLED (결제 후 보상 취소)
+ * COMPLETED, CANCELLED → (종료 상태)
+ * </pre>
  */
 public enum OrderStatus {
     PENDING,      // 주문 생성됨 (결제 대기)
     CONFIRMED,    // 주문 확정 (결제 완료, 재고 차감 완료)
     COMPLETED,    // 주문 완료 (배송 완료)
-    CANCELLED     // 주문 취소
+    CANCELLED;    // 주문 취소
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태
+     *
+     * <p>조건부 UPDATE의 WHERE status IN (...)에 그대로 사용합니다.</p>
+     */
+    public Set<OrderStatus> predecessors() {
+        return switch (this) {
+            case PENDING -> EnumSet.noneOf(OrderStatus.class);
+            case CONFIRMED -> EnumSet.of(PENDING);
+            case COMPLETED -> EnumSet.of(CONFIRMED);
+            case CANCELLED -> EnumSet.of(PENDING, CONFIRMED);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.predecessors().contains(this);
+    }
 }
@@ -6,7 +6,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Outbox 이벤트 엔티티
@@ -30,14 +32,38 @@ import java.time.LocalDateTime;
 @Table(name = "outbox_event",
         indexes = {
                 @Index(name = "idx_outbox_status_created", columnList = "status, created_at"),
-                @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id")
+                @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id"),
+                @Index(name = "idx_outbox_status_next_retry", columnList = "status, next_retry_at")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OutboxEvent {
 
+    /**
+     * 재시도 백오프 지터 비율 (±20%)
+     *
+     * <p>같은 시점에 실패한 이벤트(Redis 장애 등)가 같은 시각에 몰려 재시도되지 않도록 분산</p>
+     */
+    public static final double RETRY_JITTER_RATIO = 0.2;
+
+    /**
+     * 백오프 지수 상한 (2^10 = 1024분)
+     */
+    public static final int MAX_BACKOFF_EXPONENT = 10;
+
+    /**
+     * ID 범위 할당 크기
+     */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    /**
+     * ID 채번 (pooled): 주문과 같은 트랜잭션에서 대량 저장될 때도 INSERT 배치 유지
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id_gen")
+    @TableGenerator(name = "outbox_event_id_gen", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "outbox_event", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -111,6 +137,18 @@ public class OutboxEvent {
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
 
+    /**
+     * claim 식별자 (claim-token 전략에서 Poll마다 발급)
+     */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /**
+     * 다음 재시도 시간 (FAILED 상태에서만 사용, 실패 시점에 계산)
+     */
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
     @Builder
     public OutboxEvent(String aggregateType, String aggregateId,
                        String eventType, String payload) {
@@ -145,6 +183,8 @@ public class OutboxEvent {
     /**
      * 발행 실패 처리 (PROCESSING → FAILED)
      *
+     * <p>다음 재시도 시간을 지수 백오프 + 지터로 계산해 저장합니다 ({@link #retryBackoff}).</p>
+     *
      * @param error 에러 메시지
      */
     public void markAsFailed(String error) {
@@ -152,6 +192,7 @@ public class OutboxEvent {
         this.retryCount++;
         this.lastError = error;
         this.lastFailedAt = LocalDateTime.now();
+        this.nextRetryAt = this.lastFailedAt.plus(retryBackoff(this.retryCount));
     }
 
     /**
@@ -159,6 +200,26 @@ public class OutboxEvent {
      */
     public void markForRetry() {
         this.status = OutboxStatus.PENDING;
+        this.nextRetryAt = null;
+    }
+
+    /**
+     * 재시도 백오프 계산 (지수 백오프 + 지터)
+     *
+     * <pre>
+     * 2^retryCount 분 × (1 ± 0.2)
+     * 1회 실패: 약 2분, 2회: 약 4분, 3회: 약 8분, 4회: 약 16분
+     * </pre>
+     *
+     * <p>일괄 실패 처리(OutboxEventRepository.markFailedByIds)의 SQL도 같은 공식을 사용합니다.</p>
+     *
+     * @param retryCount 누적 실패 횟수 (1부터)
+     * @return 다음 재시도까지의 대기 시간
+     */
+    public static Duration retryBackoff(int retryCount) {
+        long baseMillis = Duration.ofMinutes(1L << Math.min(retryCount, MAX_BACKOFF_EXPONENT)).toMillis();
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-RETRY_JITTER_RATIO, RETRY_JITTER_RATIO);
+        return Duration.ofMillis(Math.round(baseMillis * jitter));
     }
 
     /**
@@ -171,6 +232,7 @@ public class OutboxEvent {
     public void markAsTimedOut() {
         this.status = OutboxStatus.PENDING;
         this.processedAt = null;
+        this.claimToken = null;
     }
 
     /**
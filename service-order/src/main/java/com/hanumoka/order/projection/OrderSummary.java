@@ -0,0 +1,108 @@
+package com.hanumoka.order.projection;
+
+import com.hanumoka.common.event.OrderCancelledEvent;
+import com.hanumoka.common.event.OrderCompletedEvent;
+import com.hanumoka.common.event.OrderConfirmedEvent;
+import com.hanumoka.common.event.OrderCreatedEvent;
+import com.hanumoka.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * 주문 요약 (조회 모델, Redis Hash 한 건)
+ *
+ * <p>상태 변경 이벤트처럼 일부 필드만 가진 값도 표현하므로 status/updatedAt 외 필드는 null일 수 있습니다.
+ * 시각은 Redis 정렬 점수로 쓰기 위해 epoch 밀리초로 보관합니다.</p>
+ *
+ * @param orderId     주문 ID
+ * @param orderNumber 주문 번호
+ * @param customerId  고객 ID
+ * @param status      주문 상태
+ * @param totalAmount 총 주문 금액
+ * @param createdAt   주문 생성 시각 (epoch 밀리초)
+ * @param updatedAt   마지막 상태 변경 시각 (epoch 밀리초, 늦게 도착한 이전 상태를 무시하는 기준)
+ */
+public record OrderSummary(
+        Long orderId,
+        String orderNumber,
+        Long customerId,
+        String status,
+        BigDecimal totalAmount,
+        Long createdAt,
+        Long updatedAt
+) {
+
+    /**
+     * OrderCreated 이벤트 → 요약
+     */
+    public static OrderSummary from(OrderCreatedEvent event) {
+        long occurredAt = toEpochMilli(event.getOccurredAt());
+        return new OrderSummary(event.getOrderId(), event.getOrderNumber(), event.getCustomerId(),
+                event.getStatus(), event.getTotalAmount(), occurredAt, occurredAt);
+    }
+
+    /**
+     * OrderConfirmed 이벤트 → 상태 변경 (생성 시각 없음)
+     */
+    public static OrderSummary from(OrderConfirmedEvent event) {
+        return statusChanged(event.getOrderId(), event.getOrderNumber(), event.getCustomerId(),
+                event.getStatus(), event.getTotalAmount(), event.getOccurredAt());
+    }
+
+    /**
+     * OrderCancelled 이벤트 → 상태 변경
+     */
+    public static OrderSummary from(OrderCancelledEvent event) {
+        return statusChanged(event.getOrderId(), event.getOrderNumber(), event.getCustomerId(),
+                event.getStatus(), event.getTotalAmount(), event.getOccurredAt());
+    }
+
+    /**
+     * OrderCompleted 이벤트 → 상태 변경
+     */
+    public static OrderSummary from(OrderCompletedEvent event) {
+        return statusChanged(event.getOrderId(), event.getOrderNumber(), event.getCustomerId(),
+                event.getStatus(), event.getTotalAmount(), event.getOccurredAt());
+    }
+
+    private static OrderSummary statusChanged(Long orderId, String orderNumber, Long customerId, String status,
+                                              BigDecimal totalAmount, LocalDateTime occurredAt) {
+        return new OrderSummary(orderId, orderNumber, customerId, status, totalAmount, null, toEpochMilli(occurredAt));
+    }
+
+    /**
+     * 주문 테이블 스냅샷 → 요약 (재구축용)
+     */
+    public static OrderSummary from(Order order) {
+        long createdAt = toEpochMilli(order.getCreatedAt());
+        LocalDateTime updatedAt = order.getUpdatedAt();
+        return new OrderSummary(order.getId(), order.getOrderNumber(), order.getCustomerId(),
+                order.getStatus().name(), order.getTotalAmount(),
+                createdAt, updatedAt == null ? createdAt : toEpochMilli(updatedAt));
+    }
+
+    /**
+     * Redis Hash 필드 → 요약
+     */
+    static OrderSummary fromHash(Long orderId, Map<String, String> fields) {
+        return new OrderSummary(
+                orderId,
+                fields.get("orderNumber"),
+                parseLong(fields.get("customerId")),
+                fields.get("status"),
+                fields.get("totalAmount") == null ? null : new BigDecimal(fields.get("totalAmount")),
+                parseLong(fields.get("createdAt")),
+                parseLong(fields.get("updatedAt")));
+    }
+
+    static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Long parseLong(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+}
@@ -0,0 +1,340 @@
+package com.hanumoka.order.projection;
+
+import com.hanumoka.common.codec.PayloadCodecRegistry;
+import com.hanumoka.common.event.OrderCancelledEvent;
+import com.hanumoka.common.event.OrderCompletedEvent;
+import com.hanumoka.common.event.OrderConfirmedEvent;
+import com.hanumoka.common.event.OrderCreatedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XPendingOptions;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 요약 Projector (주문 이벤트 Stream → Redis 조회 모델)
+ *
+ * <h3>Why?</h3>
+ * <p>대시보드와 "내 주문" 화면이 orders 테이블을 직접 조회(findByStatus, findByCustomerId)하면
+ * Saga 쓰기 경로와 같은 테이블/버퍼 풀을 두고 경쟁합니다.
+ * 조회 전용 모델을 이벤트로 갱신하면 조회 부하가 MySQL에 닿지 않습니다.</p>
+ *
+ * <h3>동작 방식</h3>
+ * <ol>
+ *   <li>전용 Consumer Group(projection.stream.consumer-group)으로 stream:order-events 구독
+ *       → service-notification 등 다른 그룹과 독립적으로 전체 이벤트를 받음</li>
+ *   <li>codec 필드로 페이로드 디코딩 → {@link OrderSummary}로 변환
+ *       (OrderCreated는 전체 필드, OrderConfirmed/Cancelled/Completed는 상태 변경)</li>
+ *   <li>{@link OrderSummaryStore#apply}로 반영 후 XACK</li>
+ * </ol>
+ *
+ * <h3>실패 처리</h3>
+ * <ul>
+ *   <li>eventType/payload 없음, 알 수 없는 codec, 디코딩 실패 → 재시도해도 같은 결과이므로
+ *       dead-letter Stream(dead-letter-key)에 원본 필드를 복사하고 XACK</li>
+ *   <li>Redis 반영 실패 → ACK하지 않음 (PEL에 남아 재처리)</li>
+ *   <li>재처리: XPENDING으로 claim-min-idle-ms 이상 ACK되지 않은 항목을 찾아 XCLAIM으로 가져와 다시 반영
+ *       → 종료/장애로 사라진 이전 Consumer의 PEL도 회수됨</li>
+ * </ul>
+ * <p>ACK되지 않은 항목은 발행 배압(OutboxBackpressure)의 pending에 포함되므로 PEL에는 일시적 실패만 남깁니다.</p>
+ *
+ * <p>반영은 멱등이고 늦게 도착한 이전 상태를 무시하므로 중복 전달/재처리에 별도 중복 제거가 필요 없습니다.
+ * 그룹이 추가되면 Stream 정리와 발행 배압도 이 그룹의 처리 위치를 함께 고려합니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * order:
+ *   projection:
+ *     enabled: true
+ *     stream:
+ *       key: stream:order-events
+ *       consumer-group: order-summary-projection
+ *       consumer-name: ${spring.application.name}-${HOSTNAME}
+ *       batch-size: 100
+ *       claim-min-idle-ms: 60000
+ *       dead-letter-key: stream:order-events:projection-dead-letter
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "order.projection.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryProjector {
+
+    private final StringRedisTemplate redisTemplate;
+    private final PayloadCodecRegistry codecRegistry;
+    private final OrderSummaryStore store;
+
+    @Value("${order.projection.stream.key:stream:order-events}")
+    private String streamKey;
+
+    @Value("${order.projection.stream.consumer-group:order-summary-projection}")
+    private String consumerGroup;
+
+    /**
+     * 인스턴스별 고정 Consumer 이름 (재시작해도 같은 PEL을 이어 받음)
+     */
+    @Value("${order.projection.stream.consumer-name:${spring.application.name}-${HOSTNAME:${random.uuid}}}")
+    private String consumerName;
+
+    @Value("${order.projection.stream.poll-timeout:2000}")
+    private long pollTimeout;
+
+    @Value("${order.projection.stream.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 이 시간 이상 ACK되지 않은 항목을 재처리 대상으로 가져옴 (다른 Consumer 소유 포함)
+     */
+    @Value("${order.projection.stream.claim-min-idle-ms:60000}")
+    private long claimMinIdleMs;
+
+    /**
+     * 재처리 1회 실행당 최대 XPENDING 페이지 수
+     */
+    @Value("${order.projection.stream.claim-max-pages:10}")
+    private int claimMaxPages;
+
+    /**
+     * 디코딩할 수 없는 메시지를 보관하는 Stream
+     */
+    @Value("${order.projection.stream.dead-letter-key:stream:order-events:projection-dead-letter}")
+    private String deadLetterKey;
+
+    @Value("${order.projection.stream.dead-letter-max-len:10000}")
+    private long deadLetterMaxLen;
+
+    /**
+     * Consumer Group 생성 (멱등성 보장)
+     *
+     * <p>MKSTREAM으로 Stream이 없어도 그룹을 만들고, 0부터 읽어 보존된 이벤트를 모두 반영합니다.</p>
+     */
+    @PostConstruct
+    public void createConsumerGroup() {
+        store.currentGeneration();
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    streamKey.getBytes(StandardCharsets.UTF_8), consumerGroup, ReadOffset.from("0"), true));
+            log.info("주문 요약 Consumer Group 생성: stream={}, group={}", streamKey, consumerGroup);
+        } catch (RedisSystemException e) {
+            if (e.getCause() != null && e.getCause().getMessage().contains("BUSYGROUP")) {
+                log.debug("주문 요약 Consumer Group 이미 존재: stream={}, group={}", streamKey, consumerGroup);
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 새 메시지 반영
+     */
+    @Scheduled(fixedDelayString = "${order.projection.poll-interval-ms:100}")
+    public void pollNewMessages() {
+        try {
+            List<ByteRecord> messages = readGroup(
+                    StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(pollTimeout)),
+                    ReadOffset.lastConsumed());
+            process(messages);
+        } catch (Exception e) {
+            log.error("주문 요약 Stream 폴링 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 반영 실패로 ACK되지 않은 메시지 재처리 (그룹 전체 PEL, 이전 Consumer 포함)
+     *
+     * <p>처리된 항목은 PEL에서 빠지므로 매 페이지를 PEL 앞부터 다시 읽습니다.
+     * 한 페이지에서 하나도 ACK하지 못하면 (Redis 반영 실패 지속) 다음 실행에서 재시도합니다.</p>
+     */
+    @Scheduled(fixedRateString = "${order.projection.pending-retry-ms:60000}")
+    public void processPendingMessages() {
+        try {
+            for (int page = 0; page < claimMaxPages; page++) {
+                List<ByteRecord> claimed = claimIdle();
+                if (claimed.isEmpty() || process(claimed) == 0 || claimed.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("주문 요약 Pending 메시지 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * @return ACK한 메시지 수
+     */
+    private int process(List<ByteRecord> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+        int acknowledged = 0;
+        for (ByteRecord message : messages) {
+            if (processMessage(message)) {
+                acknowledged++;
+            }
+        }
+        return acknowledged;
+    }
+
+    /**
+     * XPENDING → claim-min-idle-ms 이상 된 항목을 이 Consumer로 XCLAIM
+     */
+    private List<ByteRecord> claimIdle() {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        Duration minIdle = Duration.ofMillis(claimMinIdleMs);
+
+        PendingMessages pending = redisTemplate.execute((RedisCallback<PendingMessages>) connection ->
+                connection.streamCommands().xPending(key, consumerGroup, XPendingOptions.unbounded((long) batchSize)));
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+
+        List<RecordId> idle = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                idle.add(message.getId());
+            }
+        }
+        if (idle.isEmpty()) {
+            return List.of();
+        }
+
+        List<ByteRecord> claimed = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xClaim(key, consumerGroup, consumerName,
+                        XClaimOptions.minIdle(minIdle).ids(idle.toArray(RecordId[]::new))));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * XREADGROUP (바이트 단위, 바이너리 payload 보존)
+     */
+    private List<ByteRecord> readGroup(StreamReadOptions options, ReadOffset offset) {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        return redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xReadGroup(
+                        Consumer.from(consumerGroup, consumerName),
+                        options,
+                        StreamOffset.create(key, offset)));
+    }
+
+    /**
+     * @return ACK했으면 true (반영 완료, 반영 대상 아님, dead-letter로 이동)
+     */
+    private boolean processMessage(ByteRecord message) {
+        RecordId recordId = message.getId();
+        Map<String, byte[]> body = toFieldMap(message.getValue());
+
+        String eventType = text(body.get("eventType"));
+        String codec = text(body.get("codec"));
+        byte[] payload = body.get("payload");
+
+        OrderSummary summary;
+        try {
+            summary = decode(eventType, codec, payload);
+        } catch (Exception e) {
+            // 다시 읽어도 같은 결과 → PEL에 남기지 않음
+            log.error("주문 요약 메시지 디코딩 실패 → dead-letter: id={}, eventType={}, codec={}",
+                    recordId, eventType, codec, e);
+            return deadLetter(message, e);
+        }
+
+        try {
+            if (summary != null) {
+                store.apply(summary);
+            } else {
+                log.debug("주문 요약에 반영하지 않는 이벤트: id={}, eventType={}", recordId, eventType);
+            }
+            redisTemplate.opsForStream().acknowledge(streamKey, consumerGroup, recordId);
+            return true;
+        } catch (Exception e) {
+            log.error("주문 요약 반영 실패: id={}, eventType={}", recordId, eventType, e);
+            // ACK 안함 → PEL에 남아 재처리 대상
+            return false;
+        }
+    }
+
+    /**
+     * 메시지 → 요약 (반영 대상이 아닌 이벤트면 null)
+     *
+     * @throws IllegalArgumentException eventType 또는 payload 없음, 알 수 없는 codec
+     */
+    private OrderSummary decode(String eventType, String codec, byte[] payload) {
+        if (eventType == null) {
+            throw new IllegalArgumentException("Missing eventType field");
+        }
+        Class<?> type = switch (eventType) {
+            case "OrderCreated" -> OrderCreatedEvent.class;
+            case "OrderConfirmed" -> OrderConfirmedEvent.class;
+            case "OrderCancelled" -> OrderCancelledEvent.class;
+            case "OrderCompleted" -> OrderCompletedEvent.class;
+            default -> null;
+        };
+        if (type == null) {
+            return null;
+        }
+        if (payload == null) {
+            throw new IllegalArgumentException("Missing payload field");
+        }
+
+        Object event = codecRegistry.decode(codec, payload, type);
+        return switch (event) {
+            case OrderCreatedEvent created -> OrderSummary.from(created);
+            case OrderConfirmedEvent confirmed -> OrderSummary.from(confirmed);
+            case OrderCancelledEvent cancelled -> OrderSummary.from(cancelled);
+            case OrderCompletedEvent completed -> OrderSummary.from(completed);
+            default -> throw new IllegalStateException("Unexpected event type: " + type);
+        };
+    }
+
+    /**
+     * 원본 필드 + 원래 ID/오류를 dead-letter Stream에 복사한 뒤 XACK
+     *
+     * @return ACK했으면 true (복사 실패 시 PEL에 남겨 다음 재처리에서 다시 시도)
+     */
+    private boolean deadLetter(ByteRecord message, Exception cause) {
+        Map<byte[], byte[]> fields = new HashMap<>(message.getValue());
+        fields.put(bytes("originalId"), bytes(message.getId().getValue()));
+        fields.put(bytes("error"), bytes(String.valueOf(cause.getMessage())));
+
+        try {
+            ByteRecord record = StreamRecords.rawBytes(fields).withStreamKey(bytes(deadLetterKey));
+            redisTemplate.execute((RedisCallback<RecordId>) connection -> connection.streamCommands()
+                    .xAdd(record, XAddOptions.maxlen(deadLetterMaxLen).approximateTrimming(true)));
+            redisTemplate.opsForStream().acknowledge(streamKey, consumerGroup, message.getId());
+            return true;
+        } catch (Exception e) {
+            log.error("주문 요약 dead-letter 저장 실패: id={}", message.getId(), e);
+            return false;
+        }
+    }
+
+    private static Map<String, byte[]> toFieldMap(Map<byte[], byte[]> raw) {
+        Map<String, byte[]> fields = new HashMap<>(raw.size());
+        raw.forEach((field, value) -> fields.put(text(field), value));
+        return fields;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
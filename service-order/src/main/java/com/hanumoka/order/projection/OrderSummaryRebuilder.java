@@ -0,0 +1,126 @@
+package com.hanumoka.order.projection;
+
+import com.hanumoka.order.entity.Order;
+import com.hanumoka.order.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 주문 요약 전체 재구축
+ *
+ * <h3>언제 필요한가?</h3>
+ * <ul>
+ *   <li>Projector 도입 이전 주문 (Stream에 이벤트가 남아 있지 않음)</li>
+ *   <li>Redis 데이터 유실, 반영 로직 변경 후 전체 재계산</li>
+ * </ul>
+ *
+ * <h3>절차 (조회 중단 없음)</h3>
+ * <ol>
+ *   <li>새 세대 시작 → 이 시점부터 Projector가 반영하는 이벤트는 새 세대에도 기록됨</li>
+ *   <li>orders 테이블을 ID 순 청크(keyset)로 읽어 새 세대에 파이프라인 반영</li>
+ *   <li>현재 세대를 새 세대로 전환하고 이전 세대 키 삭제</li>
+ * </ol>
+ *
+ * <p>스냅샷이 읽은 행보다 새로운 이벤트가 먼저 반영돼 있어도 updatedAt 비교로 최신 상태가 유지되므로,
+ * 스냅샷과 이벤트의 순서를 맞출 필요가 없습니다.
+ * 조회 API와 달리 재구축은 운영자가 실행하는 배치라 orders 테이블을 한 번 순차 스캔합니다.</p>
+ *
+ * <p>인스턴스 간 동시 실행은 Redisson 락으로 막습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryRebuilder {
+
+    private static final String LOCK_KEY = "lock:order-summary-rebuild";
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryStore store;
+    private final RedissonClient redissonClient;
+
+    /**
+     * orders 테이블 청크 크기
+     */
+    @Value("${order.projection.rebuild.chunk-size:1000}")
+    private int chunkSize;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("order-summary-rebuild").daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 백그라운드 재구축 요청
+     *
+     * @return 시작했으면 true, 다른 재구축이 진행 중이면 false
+     */
+    public boolean rebuildAsync() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (lock.isLocked()) {
+            return false;
+        }
+        executor.submit(this::rebuild);
+        return true;
+    }
+
+    /**
+     * 재구축 실행 (락을 얻지 못하면 건너뜀)
+     */
+    public void rebuild() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.info("[OrderSummaryRebuild] 다른 인스턴스가 실행 중");
+            return;
+        }
+
+        String generation = null;
+        try {
+            generation = store.beginGeneration();
+            log.info("주문 요약 재구축 시작: generation={}", generation);
+
+            long total = 0;
+            Long after = 0L;
+            List<Order> chunk;
+            do {
+                chunk = orderRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                store.applyAll(chunk.stream().map(OrderSummary::from).toList());
+                after = chunk.get(chunk.size() - 1).getId();
+                total += chunk.size();
+            } while (chunk.size() == chunkSize);
+
+            store.promoteGeneration(generation);
+            log.info("주문 요약 재구축 완료: generation={}, orders={}", generation, total);
+        } catch (Exception e) {
+            log.error("주문 요약 재구축 실패: generation={}", generation, e);
+            if (generation != null) {
+                store.abandonGeneration(generation);
+            }
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.hanumoka.order.projection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 요약 조회 모델 저장소 (Redis)
+ *
+ * <h3>키 구성 (세대 {gen}별)</h3>
+ * <pre>
+ * order:summary:{gen}:order:{orderId}         Hash  - orderNumber, customerId, status, totalAmount, createdAt, updatedAt
+ * order:summary:{gen}:customer:{customerId}   ZSET  - member: orderId, score: createdAt (고객별 최신순 목록)
+ * order:summary:{gen}:status:{status}         ZSET  - member: orderId, score: createdAt (상태별 목록)
+ * order:summary:{gen}:counts                  Hash  - status → 건수
+ * </pre>
+ *
+ * <h3>세대 (generation)</h3>
+ * <ul>
+ *   <li>{@value #GENERATION_KEY}: 조회가 읽는 현재 세대</li>
+ *   <li>{@value #BUILDING_KEY}: 재구축 중인 세대 (있으면 이벤트를 현재 세대와 함께 반영)</li>
+ *   <li>재구축이 끝나면 현재 세대를 바꾸고(SET 한 번) 이전 세대 키를 삭제 → 조회는 항상 완성된 세대만 봄</li>
+ * </ul>
+ *
+ * <h3>반영 규칙 (Lua 스크립트로 원자적 실행, 여러 번 반영해도 결과 동일)</h3>
+ * <ul>
+ *   <li>orderNumber, customerId, totalAmount, createdAt: 불변 필드이므로 비어 있을 때만 채움 (HSETNX)</li>
+ *   <li>status: updatedAt이 저장된 값 이상일 때만 변경 (늦게 도착한 이전 상태 무시)</li>
+ *   <li>customerId, createdAt, status가 모두 있어야 목록(ZSET)과 건수에 포함 → 상태 변경이 생성보다 먼저 와도 안전</li>
+ *   <li>상태가 바뀌면 이전 상태 ZSET에서 빼고 건수를 옮김</li>
+ * </ul>
+ *
+ * <p>조회 메서드는 Redis만 읽으며 주문 테이블에 접근하지 않습니다.</p>
+ *
+ * <h3>제약: 단일(standalone/sentinel) Redis 전용</h3>
+ * <p>반영 스크립트는 이전 상태 ZSET처럼 저장된 값을 읽어야 이름을 알 수 있는 키를 스크립트 안에서 만들어 접근하므로
+ * KEYS로 모두 넘길 수 없습니다. Redis Cluster에서는 키가 여러 슬롯에 흩어져 스크립트가 실패(CROSSSLOT)하므로
+ * Cluster로 옮길 때는 모든 키에 같은 해시 태그(예: {order:summary})를 붙여 한 슬롯에 모아야 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryStore {
+
+    static final String GENERATION_KEY = "order:summary:generation";
+    static final String BUILDING_KEY = "order:summary:building";
+    private static final String GENERATION_SEQUENCE_KEY = "order:summary:generation:seq";
+    private static final String KEY_PREFIX = "order:summary:";
+
+    private static final String INITIAL_GENERATION = "1";
+
+    /**
+     * KEYS: [현재 세대 키, 재구축 세대 키]
+     * ARGV: [orderId, orderNumber, customerId, status, totalAmount, createdAt, updatedAt, 키 접두사]
+     * 반환: 현재 세대의 목록/건수가 바뀌었으면 1
+     *
+     * <p>요약 키(order/customer/status/counts)는 스크립트 안에서 만들어 접근합니다 → 단일 Redis 전용 (클래스 설명 참고).</p>
+     */
+    private static final String APPLY_SCRIPT = """
+            local function apply(prefix)
+              local key = prefix .. 'order:' .. ARGV[1]
+              local before = redis.call('HMGET', key, 'customerId', 'createdAt', 'status', 'updatedAt')
+              local wasIndexed = before[1] and before[2] and before[3]
+
+              if ARGV[2] ~= '' then redis.call('HSETNX', key, 'orderNumber', ARGV[2]) end
+              if ARGV[3] ~= '' then redis.call('HSETNX', key, 'customerId', ARGV[3]) end
+              if ARGV[5] ~= '' then redis.call('HSETNX', key, 'totalAmount', ARGV[5]) end
+              if ARGV[6] ~= '' then redis.call('HSETNX', key, 'createdAt', ARGV[6]) end
+
+              local status = before[3]
+              if ARGV[4] ~= '' and ARGV[7] ~= '' and (not before[4] or tonumber(ARGV[7]) >= tonumber(before[4])) then
+                status = ARGV[4]
+                redis.call('HSET', key, 'status', status, 'updatedAt', ARGV[7])
+              end
+
+              local customerId = redis.call('HGET', key, 'customerId')
+              local createdAt = redis.call('HGET', key, 'createdAt')
+              if not (customerId and createdAt and status) then return 0 end
+              if wasIndexed and before[3] == status then return 0 end
+
+              redis.call('ZADD', prefix .. 'customer:' .. customerId, createdAt, ARGV[1])
+              if wasIndexed then
+                redis.call('ZREM', prefix .. 'status:' .. before[3], ARGV[1])
+                redis.call('HINCRBY', prefix .. 'counts', before[3], -1)
+              end
+              redis.call('ZADD', prefix .. 'status:' .. status, createdAt, ARGV[1])
+              redis.call('HINCRBY', prefix .. 'counts', status, 1)
+              return 1
+            end
+
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+              current = '1'
+              redis.call('SET', KEYS[1], current)
+            end
+            local applied = apply(ARGV[8] .. current .. ':')
+            local building = redis.call('GET', KEYS[2])
+            if building and building ~= current then apply(ARGV[8] .. building .. ':') end
+            return applied
+            """;
+
+    private static final RedisScript<Long> APPLY = new DefaultRedisScript<>(APPLY_SCRIPT, Long.class);
+    private static final byte[] APPLY_SCRIPT_BYTES = APPLY_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 요약 반영 (현재 세대 + 재구축 중인 세대)
+     */
+    public void apply(OrderSummary summary) {
+        redisTemplate.execute(APPLY, List.of(GENERATION_KEY, BUILDING_KEY), applyArgs(summary));
+    }
+
+    /**
+     * 요약 일괄 반영 (파이프라인, 재구축용)
+     */
+    public void applyAll(Collection<OrderSummary> summaries) {
+        byte[] generationKey = bytes(GENERATION_KEY);
+        byte[] buildingKey = bytes(BUILDING_KEY);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OrderSummary summary : summaries) {
+                String[] args = applyArgs(summary);
+                byte[][] keysAndArgs = new byte[2 + args.length][];
+                keysAndArgs[0] = generationKey;
+                keysAndArgs[1] = buildingKey;
+                for (int i = 0; i < args.length; i++) {
+                    keysAndArgs[2 + i] = bytes(args[i]);
+                }
+                connection.scriptingCommands().eval(APPLY_SCRIPT_BYTES, ReturnType.INTEGER, 2, keysAndArgs);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 고객별 주문 요약 (최신순)
+     */
+    public List<OrderSummary> findByCustomerId(Long customerId, long offset, int size) {
+        String prefix = currentPrefix();
+        Set<String> orderIds = redisTemplate.opsForZSet()
+                .reverseRange(prefix + "customer:" + customerId, offset, offset + size - 1);
+        return load(prefix, orderIds);
+    }
+
+    /**
+     * 상태별 주문 요약 (최신순)
+     */
+    public List<OrderSummary> findByStatus(String status, long offset, int size) {
+        String prefix = currentPrefix();
+        Set<String> orderIds = redisTemplate.opsForZSet()
+                .reverseRange(prefix + "status:" + status, offset, offset + size - 1);
+        return load(prefix, orderIds);
+    }
+
+    /**
+     * 상태별 주문 건수
+     */
+    public Map<String, Long> countByStatus() {
+        Map<Object, Object> counts = redisTemplate.opsForHash().entries(currentPrefix() + "counts");
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.forEach((status, count) -> result.put((String) status, Long.valueOf((String) count)));
+        return result;
+    }
+
+    /**
+     * 현재 세대 (없으면 첫 세대로 초기화)
+     */
+    public String currentGeneration() {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        if (generation != null) {
+            return generation;
+        }
+        redisTemplate.opsForValue().setIfAbsent(GENERATION_KEY, INITIAL_GENERATION);
+        return redisTemplate.opsForValue().get(GENERATION_KEY);
+    }
+
+    /**
+     * 재구축 세대 시작 (이후 반영되는 이벤트는 새 세대에도 기록됨)
+     *
+     * @return 새 세대
+     */
+    public String beginGeneration() {
+        long current = Long.parseLong(currentGeneration());
+        long next = redisTemplate.opsForValue().increment(GENERATION_SEQUENCE_KEY);
+        if (next <= current) {
+            // 첫 재구축이거나 시퀀스 키가 없어진 경우 → 현재 세대 다음 번호부터
+            next = current + 1;
+            redisTemplate.opsForValue().set(GENERATION_SEQUENCE_KEY, String.valueOf(next));
+        }
+
+        String generation = String.valueOf(next);
+        redisTemplate.opsForValue().set(BUILDING_KEY, generation);
+        return generation;
+    }
+
+    /**
+     * 재구축 세대를 현재 세대로 전환하고 이전 세대 삭제
+     */
+    public void promoteGeneration(String generation) {
+        String previous = currentGeneration();
+        redisTemplate.opsForValue().set(GENERATION_KEY, generation);
+        redisTemplate.delete(BUILDING_KEY);
+        deleteGeneration(previous);
+    }
+
+    /**
+     * 재구축 실패 시 만들던 세대 폐기
+     */
+    public void abandonGeneration(String generation) {
+        if (generation.equals(redisTemplate.opsForValue().get(BUILDING_KEY))) {
+            redisTemplate.delete(BUILDING_KEY);
+        }
+        deleteGeneration(generation);
+    }
+
+    /**
+     * 세대의 모든 키 삭제 (SCAN + UNLINK, 배치 단위)
+     */
+    private void deleteGeneration(String generation) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + generation + ":*")
+                .count(DELETE_BATCH_SIZE)
+                .build();
+
+        List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        long deleted = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == DELETE_BATCH_SIZE) {
+                    deleted += unlink(batch);
+                }
+            }
+        }
+        deleted += unlink(batch);
+        log.info("주문 요약 세대 삭제: generation={}, keys={}", generation, deleted);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        keys.clear();
+        return unlinked == null ? 0 : unlinked;
+    }
+
+    private String currentPrefix() {
+        return KEY_PREFIX + currentGeneration() + ":";
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OrderSummary> load(String prefix, Set<String> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> ids = List.copyOf(orderIds);
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String orderId : ids) {
+                connection.hashCommands().hGetAll(bytes(prefix + "order:" + orderId));
+            }
+            return null;
+        });
+
+        List<OrderSummary> summaries = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Map<String, String> fields = (Map<String, String>) hashes.get(i);
+            if (fields != null && !fields.isEmpty()) {
+                summaries.add(OrderSummary.fromHash(Long.valueOf(ids.get(i)), fields));
+            }
+        }
+        return summaries;
+    }
+
+    private String[] applyArgs(OrderSummary summary) {
+        return new String[]{
+                String.valueOf(summary.orderId()),
+                text(summary.orderNumber()),
+                text(summary.customerId()),
+                text(summary.status()),
+                summary.totalAmount() == null ? "" : summary.totalAmount().toPlainString(),
+                text(summary.createdAt()),
+                text(summary.updatedAt()),
+                KEY_PREFIX
+        };
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hanumoka.order.publisher;
+
+import com.hanumoka.order.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발행 완료 이벤트 보관 이동 (hot/cold 분리)
+ *
+ * <h3>Why?</h3>
+ * <p>PUBLISHED 이벤트가 outbox_event에 남아있으면 claim 쿼리가 사용하는 인덱스와 버퍼 풀을 차지합니다.
+ * 발행 직후 비동기로 보관 테이블(outbox_event_archive)로 옮겨
+ * outbox_event에는 처리 중인 이벤트만 남깁니다.</p>
+ *
+ * <h3>동작 원리</h3>
+ * <ol>
+ *   <li>interval-ms마다 PUBLISHED 이벤트를 batch-size개씩 이동 (청크마다 별도 트랜잭션)</li>
+ *   <li>청크가 가득 차면 이어서 다음 청크 처리 (1회 최대 {@value #MAX_BATCHES_PER_RUN}개 청크)</li>
+ *   <li>enabled=false면 보관하지 않고 바로 삭제</li>
+ * </ol>
+ *
+ * <p>이동이 지연되어도 PUBLISHED 이벤트는 claim 대상이 아니므로 정합성에는 영향이 없습니다.</p>
+ *
+ * <p>보관 테이블의 보관 기간 정리는 OutboxRetentionManager가 담당합니다.
+ * outbox 테이블을 파티션으로 운영한다면 보관 테이블도 파티션으로 만들어야(db/partitioning V9.1)
+ * 정리가 청크 DELETE가 아닌 DROP PARTITION으로 이루어집니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * outbox:
+ *   archive:
+ *     enabled: true
+ *     batch-size: 500
+ *     interval-ms: 1000
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxArchiver {
+
+    /**
+     * 1회 실행당 최대 청크 수 (공유 스케줄러 스레드 점유 제한)
+     */
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final OutboxService outboxService;
+
+    /**
+     * 보관 여부 (false: 발행 완료 이벤트를 바로 삭제)
+     */
+    @Value("${outbox.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    @Value("${outbox.archive.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 발행 완료 이벤트 이동
+     */
+    @Scheduled(fixedDelayString = "${outbox.archive.interval-ms:1000}")
+    public void archivePublishedEvents() {
+        int moved = 0;
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            int chunk = outboxService.archivePublishedChunk(batchSize, archiveEnabled);
+            moved += chunk;
+            if (chunk < batchSize) {
+                break;
+            }
+        }
+
+        if (moved > 0) {
+            log.debug("Outbox 발행 완료 이벤트 {}: {}개", archiveEnabled ? "보관 이동" : "삭제", moved);
+        }
+    }
+}
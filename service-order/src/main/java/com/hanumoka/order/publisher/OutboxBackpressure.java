@@ -0,0 +1,181 @@
+package com.hanumoka.order.publisher;
+
+import com.hanumoka.order.publisher.relay.OutboxRouter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consumer Group 적체 기반 발행 배압 (backpressure)
+ *
+ * <h3>Why?</h3>
+ * <p>Consumer(service-notification)가 밀려도 Publisher는 계속 XADD하므로
+ * 처리되지 않은 항목이 Stream에 쌓여 Redis 메모리가 증가합니다.
+ * 이 경우 claim을 멈추면 이벤트는 DB(outbox_event)에 PENDING으로 안전하게 남습니다.</p>
+ *
+ * <h3>적체량 계산 (check-interval-ms마다)</h3>
+ * <ul>
+ *   <li>Consumer Group별: lag(아직 전달되지 않은 항목) + pending(전달됐지만 ACK되지 않은 항목)</li>
+ *   <li>lag를 알 수 없으면 (Redis 7 미만, 중간 항목이 정리된 경우) pending만 사용</li>
+ *   <li>모든 전달 대상 Stream의 모든 그룹 중 가장 큰 값 (가장 느린 Consumer 기준)</li>
+ * </ul>
+ *
+ * <h3>상태 전이 (hysteresis)</h3>
+ * <pre>
+ * 정상 → 정지: 적체량 &gt;= high-water-mark
+ * 정지 → 정상: 적체량 &lt;= low-water-mark
+ * </pre>
+ * <p>두 임계값 사이에서는 현재 상태를 유지하여 정지/재개가 반복되지 않게 합니다.
+ * 정지 중에는 Polling과 즉시 발행 모두 claim하지 않으며, Polling 지연은 max-delay까지 늘어납니다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>outbox.backpressure.paused - 정지 여부 (1: 정지)</li>
+ *   <li>outbox.backpressure.consumer.backlog - 가장 느린 Consumer Group의 적체량</li>
+ * </ul>
+ *
+ * <p>outbox.relay.type이 redis-stream이 아니면(in-memory 등) 조회하지 않고 항상 정상 상태입니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * outbox:
+ *   backpressure:
+ *     enabled: true
+ *     high-water-mark: 100000
+ *     low-water-mark: 50000
+ *     check-interval-ms: 1000
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxBackpressure {
+
+    private final StringRedisTemplate redisTemplate;
+    private final OutboxRouter router;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 배압 사용 여부
+     */
+    @Value("${outbox.backpressure.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 전달 방식 (redis-stream일 때만 Consumer Group 적체를 조회)
+     */
+    @Value("${outbox.relay.type:redis-stream}")
+    private String relayType;
+
+    /**
+     * 이 적체량 이상이면 claim 정지
+     */
+    @Value("${outbox.backpressure.high-water-mark:100000}")
+    private long highWaterMark;
+
+    /**
+     * 이 적체량 이하로 내려가면 claim 재개
+     */
+    @Value("${outbox.backpressure.low-water-mark:50000}")
+    private long lowWaterMark;
+
+    private static final String REDIS_STREAM_RELAY = "redis-stream";
+
+    private final AtomicLong consumerBacklog = new AtomicLong();
+
+    private volatile boolean paused;
+
+    @PostConstruct
+    public void init() {
+        if (lowWaterMark > highWaterMark) {
+            throw new IllegalStateException("outbox.backpressure.low-water-mark must not exceed high-water-mark");
+        }
+        if (enabled && !REDIS_STREAM_RELAY.equals(relayType)) {
+            // in-memory 등 Redis Stream을 쓰지 않는 Relay → 조회할 Consumer Group이 없음
+            log.info("Outbox 배압 비활성화: outbox.relay.type={}", relayType);
+            enabled = false;
+        }
+
+        Gauge.builder("outbox.backpressure.paused", this, backpressure -> backpressure.paused ? 1 : 0)
+                .description("Consumer 적체로 Outbox claim 정지 여부")
+                .register(meterRegistry);
+        Gauge.builder("outbox.backpressure.consumer.backlog", consumerBacklog, AtomicLong::get)
+                .description("가장 느린 Consumer Group의 적체량 (lag + pending)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * claim 정지 여부
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Consumer Group 적체량 확인 + 상태 갱신
+     *
+     * <p>Redis 조회에 실패하면 이전 상태를 유지합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${outbox.backpressure.check-interval-ms:1000}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+
+        long backlog;
+        try {
+            backlog = maxConsumerBacklog();
+        } catch (Exception e) {
+            log.warn("Consumer Group 적체량 조회 실패 (이전 상태 유지): paused={}", paused, e);
+            return;
+        }
+        consumerBacklog.set(backlog);
+
+        if (!paused && backlog >= highWaterMark) {
+            paused = true;
+            log.warn("Consumer 적체 → Outbox claim 정지: backlog={}, highWaterMark={}", backlog, highWaterMark);
+        } else if (paused && backlog <= lowWaterMark) {
+            paused = false;
+            log.info("Consumer 적체 해소 → Outbox claim 재개: backlog={}, lowWaterMark={}", backlog, lowWaterMark);
+        }
+    }
+
+    /**
+     * 모든 전달 대상 Stream의 Consumer Group 중 가장 큰 적체량
+     */
+    private long maxConsumerBacklog() {
+        long max = 0;
+        for (String streamKey : router.destinations()) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+                continue;
+            }
+
+            XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+            for (XInfoGroup group : groups) {
+                max = Math.max(max, backlogOf(group));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Consumer Group 적체량 (lag + pending)
+     *
+     * <p>XINFO GROUPS의 lag 필드(Redis 7+)는 Spring Data Redis 접근자가 없어 원본 응답에서 읽습니다.</p>
+     */
+    private static long backlogOf(XInfoGroup group) {
+        Object lag = group.getRaw().get("lag");
+        long undelivered = lag instanceof Number number ? number.longValue() : 0;
+        return undelivered + group.pendingCount();
+    }
+}
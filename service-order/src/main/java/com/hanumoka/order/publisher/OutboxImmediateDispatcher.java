@@ -0,0 +1,177 @@
+package com.hanumoka.order.publisher;
+
+import com.hanumoka.order.service.OutboxCommitListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 즉시 발행 Dispatcher (after-commit fast path)
+ *
+ * <h3>Why?</h3>
+ * <p>Polling Publisher는 1초 주기이므로 이벤트 발행까지 0~1초 지연이 생깁니다.
+ * 커밋 직후 이벤트 ID를 넘겨받아 수 ms 안에 발행합니다.</p>
+ *
+ * <h3>동작 원리</h3>
+ * <ol>
+ *   <li>OutboxService.save()가 등록한 afterCommit 훅이 {@link #onCommitted}로 이벤트 전달</li>
+ *   <li>이벤트 ID + 파티션을 메모리 큐에 적재 (요청 스레드는 대기하지 않음)</li>
+ *   <li>전용 스레드가 큐를 비우며 claim(PENDING → PROCESSING) 후 발행</li>
+ *   <li>파티션 모드에서는 파티션 락을 얻은 경우에만 발행 (순서 보장)</li>
+ * </ol>
+ *
+ * <h3>Polling은 안전망</h3>
+ * <ul>
+ *   <li>큐가 가득 차거나, 커밋 후 발행 전에 프로세스가 죽으면 이벤트는 PENDING으로 남음</li>
+ *   <li>다음 Polling 주기에 기존 Publisher가 발행</li>
+ *   <li>claim은 FOR UPDATE SKIP LOCKED + PROCESSING 전이이므로 중복 발행되지 않음</li>
+ * </ul>
+ *
+ * <h3>설정 (opt-in)</h3>
+ * <pre>
+ * outbox:
+ *   dispatch:
+ *     immediate:
+ *       enabled: true
+ *       queue-capacity: 10000
+ *       batch-size: 100
+ *       max-events-per-transaction: 500   # 초과한 트랜잭션(일괄 주문 생성 등)은 Polling이 발행
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.dispatch.immediate.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxImmediateDispatcher implements OutboxCommitListener {
+
+    /**
+     * 큐 대기 간격 (종료 플래그 확인 주기)
+     */
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final OutboxPollingPublisher publisher;
+
+    @Value("${outbox.dispatch.immediate.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${outbox.dispatch.immediate.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 종료 시 진행 중인 claim/발행을 기다리는 최대 시간
+     */
+    @Value("${outbox.dispatch.immediate.shutdown-timeout-ms:5000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<DispatchTarget> queue;
+
+    private Thread worker;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::runLoop, "outbox-immediate-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Outbox 즉시 발행 Dispatcher 시작: queueCapacity={}, batchSize={}", queueCapacity, batchSize);
+    }
+
+    /**
+     * 종료 (진행 중인 배치가 끝날 때까지 최대 shutdown-timeout-ms 대기)
+     *
+     * <p>워커는 큐를 짧게 대기하며 종료 플래그를 확인하므로 interrupt 없이 멈춥니다.
+     * claim 후 발행 중에 인터럽트하면 DB/Redis 작업이 중간에 끊길 수 있어, 시간 안에 끝나지 않을 때만 인터럽트합니다.</p>
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("Outbox 즉시 발행 Dispatcher가 {}ms 안에 종료되지 않아 인터럽트", shutdownTimeoutMs);
+            worker.interrupt();
+        }
+        // 큐에 남은 ID는 PENDING 상태이므로 Polling Publisher가 처리
+        log.info("Outbox 즉시 발행 Dispatcher 종료: 미처리 {}개는 Polling으로 발행", queue.size());
+    }
+
+    /**
+     * 커밋된 이벤트 전달 (afterCommit 훅에서 호출)
+     *
+     * <p>큐가 가득 차면 버립니다. 버려진 이벤트는 PENDING으로 남아 Polling이 발행합니다.</p>
+     *
+     * @param events 커밋된 이벤트 목록
+     */
+    @Override
+    public void onCommitted(List<CommittedEvent> events) {
+        for (CommittedEvent event : events) {
+            DispatchTarget target = new DispatchTarget(event.id(), publisher.partitionOf(event.aggregateId()));
+            if (!queue.offer(target)) {
+                log.debug("즉시 발행 큐 가득 참 → Polling으로 위임: id={}", event.id());
+            }
+        }
+    }
+
+    private void runLoop() {
+        List<DispatchTarget> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                // 첫 이벤트는 대기, 나머지는 쌓여있는 만큼 한 번에 가져옴
+                DispatchTarget first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                // 파티션별로 묶어서 발행 (파티션 락을 못 얻으면 Polling이 순서대로 발행)
+                Map<Integer, List<Long>> idsByPartition = new LinkedHashMap<>();
+                for (DispatchTarget target : batch) {
+                    idsByPartition.computeIfAbsent(target.partition(), k -> new ArrayList<>())
+                            .add(target.eventId());
+                }
+
+                idsByPartition.forEach((partition, eventIds) -> {
+                    int claimed = publisher.publishByIds(partition, eventIds);
+                    log.debug("Outbox 즉시 발행: partition={}, requested={}, claimed={}",
+                            partition, eventIds.size(), claimed);
+                });
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // claim 전 실패 → PENDING 유지 (Polling이 처리)
+                // claim 후 실패 → PROCESSING 타임아웃 복구 후 Polling이 처리
+                log.error("Outbox 즉시 발행 실패 (Polling으로 위임): batch={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 즉시 발행 대상 (이벤트 ID + 파티션)
+     */
+    private record DispatchTarget(Long eventId, int partition) {
+    }
+}
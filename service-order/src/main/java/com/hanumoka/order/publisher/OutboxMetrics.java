@@ -0,0 +1,134 @@
+package com.hanumoka.order.publisher;
+
+import com.hanumoka.order.entity.OutboxEvent;
+import com.hanumoka.order.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox 메트릭 (Micrometer → /actuator/prometheus)
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>outbox.events.claimed / published / failed - 처리량 카운터 (Publisher가 증가, rate()로 초당 처리량)</li>
+ *   <li>outbox.publish.latency - 이벤트 생성(created_at) → XADD 완료까지 지연 (히스토그램)</li>
+ *   <li>outbox.pending.oldest.age - 가장 오래된 PENDING 이벤트의 나이 (end-to-end 지연)</li>
+ *   <li>outbox.backlog.pending - PENDING 이벤트 수 (최대 {@value #COUNT_CAP}까지만 셈)</li>
+ *   <li>outbox.dlq.unresolved - 미해결 DLQ 수 (최대 {@value #COUNT_CAP}까지만 셈)</li>
+ * </ul>
+ *
+ * <h3>Why 샘플링?</h3>
+ * <p>전체 COUNT(*)는 테이블이 클수록 느려집니다. 게이지는 sample-ms마다 한 번만 조회하고,
+ * 가장 오래된 PENDING은 (status, created_at) 인덱스의 첫 항목만 읽으며,
+ * 개수는 상한까지만 세어 조회 비용이 backlog 크기와 무관하게 제한됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxMetrics {
+
+    /**
+     * 게이지 카운트 상한
+     */
+    private static final int COUNT_CAP = 100_000;
+
+    private final MeterRegistry meterRegistry;
+    private final OutboxService outboxService;
+
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+    private final AtomicLong pendingBacklog = new AtomicLong();
+    private final AtomicLong unresolvedDlq = new AtomicLong();
+
+    private Counter claimedCounter;
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Timer publishLatency;
+
+    @PostConstruct
+    public void registerMeters() {
+        claimedCounter = Counter.builder("outbox.events.claimed")
+                .description("claim된 Outbox 이벤트 수")
+                .register(meterRegistry);
+        publishedCounter = Counter.builder("outbox.events.published")
+                .description("발행 성공한 Outbox 이벤트 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("outbox.events.failed")
+                .description("발행 실패한 Outbox 이벤트 수")
+                .register(meterRegistry);
+
+        publishLatency = Timer.builder("outbox.publish.latency")
+                .description("이벤트 생성부터 XADD 완료까지 지연")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(30))
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.pending.oldest.age", oldestPendingAgeMs, AtomicLong::get)
+                .description("가장 오래된 PENDING 이벤트의 나이")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.backlog.pending", pendingBacklog, AtomicLong::get)
+                .description("발행 대기(PENDING) 이벤트 수 (상한까지)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.dlq.unresolved", unresolvedDlq, AtomicLong::get)
+                .description("미해결 DLQ 수 (상한까지)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * claim 결과 기록
+     */
+    public void recordClaimed(int count) {
+        claimedCounter.increment(count);
+    }
+
+    /**
+     * 발행 성공 기록 (생성 → 발행 지연 포함)
+     *
+     * @param events 발행 성공한 이벤트
+     */
+    public void recordPublished(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            publishLatency.record(Duration.between(event.getCreatedAt(), now));
+        }
+        publishedCounter.increment(events.size());
+    }
+
+    /**
+     * 발행 실패 기록
+     */
+    public void recordFailed(int count) {
+        failedCounter.increment(count);
+    }
+
+    /**
+     * DB 기반 게이지 샘플링
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.sample-ms:10000}")
+    public void sample() {
+        try {
+            LocalDateTime oldestPending = outboxService.findOldestPendingCreatedAt();
+            oldestPendingAgeMs.set(oldestPending == null
+                    ? 0
+                    : Math.max(0, Duration.between(oldestPending, LocalDateTime.now()).toMillis()));
+
+            pendingBacklog.set(outboxService.countPendingUpTo(COUNT_CAP));
+            unresolvedDlq.set(outboxService.countUnresolvedDlqUpTo(COUNT_CAP));
+        } catch (Exception e) {
+            log.warn("Outbox 메트릭 샘플링 실패", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hanumoka.order.publisher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalInt;
+import java.util.function.IntSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * Outbox 파티션 소유권 (Redisson 락 lease)
+ *
+ * <h3>파티션 규칙</h3>
+ * <pre>
+ * partition = CRC32(aggregate_id) % partitions
+ * </pre>
+ * <p>MySQL CRC32()와 같은 값을 내므로 claim 쿼리(DB)와 즉시 발행(Java)이 같은 파티션을 계산합니다.
+ * 같은 aggregateId는 항상 같은 파티션 → 한 번에 한 워커만 발행 → aggregate 단위 순서 보장.</p>
+ *
+ * <h3>소유권 재분배</h3>
+ * <ul>
+ *   <li>워커는 매 주기 파티션 락을 대기 없이 시도 (tryLock)</li>
+ *   <li>발행 + 상태 반영이 끝나면 락 해제 → 다음 주기에는 어느 인스턴스든 가져갈 수 있음</li>
+ *   <li>인스턴스 추가: 비어있는 파티션 락을 자연스럽게 나눠 가짐</li>
+ *   <li>인스턴스 종료/장애: watchdog 갱신이 멈추면 lockWatchdogTimeout(기본 30초) 후 락 만료</li>
+ * </ul>
+ *
+ * <h3>Why leaseTime 미지정?</h3>
+ * <p>leaseTime을 지정하면 watchdog이 꺼져서, 배치 처리가 leaseTime보다 길어질 때
+ * 다른 인스턴스가 같은 파티션을 동시에 처리할 수 있습니다 (순서 보장 깨짐).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxPartitionLeases {
+
+    private static final String LOCK_KEY_PREFIX = "lock:outbox-partition:";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * aggregateId의 파티션 계산 (MySQL: MOD(CRC32(aggregate_id), partitions))
+     *
+     * @param aggregateId 도메인 ID
+     * @param partitions  전체 파티션 수
+     * @return 파티션 번호 (0 ~ partitions-1)
+     */
+    public static int partitionOf(String aggregateId, int partitions) {
+        if (partitions <= 1) {
+            return 0;
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(aggregateId.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % partitions);
+    }
+
+    /**
+     * 파티션 락을 얻은 경우에만 작업 실행
+     *
+     * @param partition 파티션 번호
+     * @param task      락 보유 중 실행할 작업 (처리한 이벤트 수 반환)
+     * @return 작업 결과, 다른 워커가 락을 보유 중이면 empty
+     */
+    public OptionalInt runIfLeased(int partition, IntSupplier task) {
+        String lockKey = LOCK_KEY_PREFIX + partition;
+        RLock lock = redissonClient.getLock(lockKey);
+
+        boolean isLocked = false;
+
+        try {
+            isLocked = lock.tryLock();
+
+            if (!isLocked) {
+                log.trace("[OutboxPartition] 다른 워커가 보유 중: {}", lockKey);
+                return OptionalInt.empty();
+            }
+
+            return OptionalInt.of(task.getAsInt());
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,27 +1,37 @@
 package com.hanumoka.order.publisher;
 
 import com.hanumoka.order.entity.OutboxEvent;
+import com.hanumoka.order.publisher.relay.MessageRelay;
+import com.hanumoka.order.publisher.relay.RelayResult;
 import com.hanumoka.order.service.OutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
 
 /**
  * Outbox Polling Publisher
  *
+ * <p>Polling 주기는 {@link OutboxPublishScheduler}가 backlog에 맞춰 조절합니다.</p>
+ *
  * <h3>동작 원리</h3>
  * <ol>
  *   <li>주기적으로 PENDING 상태의 Outbox 이벤트 조회</li>
- *   <li>Redis Stream으로 이벤트 발행</li>
+ *   <li>{@link MessageRelay}로 이벤트 발행</li>
  *   <li>성공/실패에 따라 상태 업데이트</li>
  * </ol>
  *
@@ -32,12 +42,29 @@ import java.util.Map;
  *   <li>같은 이벤트를 중복 발행하지 않음</li>
  * </ul>
  *
- * <h3>Redis Stream 토픽 매핑</h3>
+ * <h3>파티션 병렬 발행 (outbox.publisher.partitions &gt; 1)</h3>
+ * <ul>
+ *   <li>CRC32(aggregate_id) % partitions 로 이벤트를 파티션에 배정</li>
+ *   <li>파티션마다 워커 스레드가 Redisson 락을 잡고 해당 파티션만 claim/발행</li>
+ *   <li>같은 aggregate는 한 번에 한 워커만 발행 → aggregate 단위 순서 보장</li>
+ *   <li>여러 인스턴스가 파티션 락을 나눠 가짐 (인스턴스 증감 시 자동 재분배)</li>
+ * </ul>
+ *
+ * <h3>배치 발행 모드 (기본)</h3>
  * <ul>
- *   <li>Order → stream:order-events</li>
- *   <li>Payment → stream:payment-events</li>
- *   <li>Inventory → stream:inventory-events</li>
+ *   <li>claim된 이벤트 전체를 {@link MessageRelay}에 한 번에 전달 (Redis Stream: 파이프라인 XADD 1회)</li>
+ *   <li>성공 이벤트는 단일 UPDATE로 PUBLISHED 처리</li>
+ *   <li>실패 이벤트는 별도 UPDATE로 FAILED 처리 (이벤트별 에러 로그 유지)</li>
+ *   <li>이벤트 100개 기준 DB/Redis 왕복 200회 이상 → 3회 내외</li>
  * </ul>
+ *
+ * <h3>배압</h3>
+ * <p>Consumer Group 적체량이 high-water-mark를 넘으면 claim을 멈추고
+ * low-water-mark 아래로 내려가면 재개합니다 ({@link OutboxBackpressure}).</p>
+ *
+ * <h3>전달 대상</h3>
+ * <p>전달 방식(Redis Stream, 메모리 등)과 라우팅은 {@link MessageRelay} 구현체가 담당합니다.
+ * Publisher는 claim과 결과 상태 반영만 수행합니다.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -45,102 +72,292 @@ import java.util.Map;
 public class OutboxPollingPublisher {
 
     private final OutboxService outboxService;
-    private final StringRedisTemplate redisTemplate;
+    private final MessageRelay messageRelay;
+    private final OutboxPartitionLeases partitionLeases;
+    private final OutboxMetrics metrics;
+    private final OutboxBackpressure backpressure;
 
     /**
-     * 한 번에 처리할 이벤트 수
+     * 배치(파이프라인) 발행 여부
+     *
+     * <p>false이면 이벤트별 Relay 호출 + 이벤트별 상태 변경 (기존 방식)</p>
      */
-    private static final int BATCH_SIZE = 100;
+    @Value("${outbox.publisher.batch-enabled:true}")
+    private boolean batchEnabled;
 
     /**
-     * Stream 키 접두사
+     * 한 번에 claim할 이벤트 수 (파티션 모드에서는 파티션당)
      */
-    private static final String STREAM_PREFIX = "stream:";
+    @Getter
+    @Value("${outbox.publisher.batch-size:100}")
+    private int batchSize;
 
     /**
-     * 1초마다 PENDING 이벤트를 Polling하여 발행
+     * 파티션 수 (1이면 파티션 없이 단일 Poller)
+     *
+     * <p>모든 인스턴스가 같은 값을 사용해야 합니다.</p>
+     */
+    @Value("${outbox.publisher.partitions:1}")
+    private int partitions;
+
+    /**
+     * 인스턴스당 파티션 워커 스레드 수
+     */
+    @Value("${outbox.publisher.worker-threads:4}")
+    private int workerThreads;
+
+    private ExecutorService partitionExecutor;
+
+    @PostConstruct
+    public void start() {
+        if (partitions > 1) {
+            int threads = Math.max(1, Math.min(workerThreads, partitions));
+            partitionExecutor = Executors.newFixedThreadPool(threads,
+                    Thread.ofPlatform().name("outbox-publisher-", 0).daemon(true).factory());
+            log.info("Outbox 파티션 워커 시작: partitions={}, threads={}", partitions, threads);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (partitionExecutor != null) {
+            partitionExecutor.shutdown();
+        }
+    }
+
+    /**
+     * PENDING 이벤트를 Polling하여 발행 (1회)
+     *
+     * <p>호출 주기는 {@link OutboxPublishScheduler}가 결과에 따라 조절합니다.</p>
      *
      * <h3>처리 흐름</h3>
      * <ol>
      *   <li>claimPendingEvents(): PENDING 조회 + PROCESSING으로 변경 (단일 트랜잭션)</li>
-     *   <li>각 이벤트를 Redis Stream으로 발행</li>
-     *   <li>성공 시 PUBLISHED, 실패 시 FAILED로 상태 변경</li>
+     *   <li>MessageRelay로 발행 (배치 모드: Relay 호출 1회)</li>
+     *   <li>성공 시 PUBLISHED, 실패 시 FAILED로 상태 변경 (배치 모드: 일괄 UPDATE)</li>
      * </ol>
      *
      * <h3>트랜잭션 경계 문제 해결</h3>
      * <p>claimPendingEvents()에서 PROCESSING으로 변경 후 트랜잭션이 커밋되면,
      * 락이 해제되어도 상태가 PROCESSING이므로 다른 인스턴스가 중복 조회하지 않습니다.</p>
+     *
+     * @return 가장 많이 claim된 배치의 이벤트 수 (batchSize와 같으면 backlog가 남아있음)
      */
-    @Scheduled(fixedDelay = 1000)
-    public void publishPendingEvents() {
+    public int publishPendingEvents() {
+        // Consumer 적체 시 claim 정지 (이벤트는 PENDING으로 남음)
+        if (backpressure.isPaused()) {
+            return 0;
+        }
+
+        if (partitions > 1) {
+            return publishAllPartitions();
+        }
+
         // 1. PENDING 이벤트 조회 + PROCESSING으로 변경 (단일 트랜잭션)
-        List<OutboxEvent> events = outboxService.claimPendingEvents(BATCH_SIZE);
+        List<OutboxEvent> events = outboxService.claimPendingEvents(batchSize);
 
         if (events.isEmpty()) {
-            return;
+            return 0;
         }
 
         log.debug("Polling {} pending outbox events (claimed as PROCESSING)", events.size());
 
-        // 2. 각 이벤트를 Redis Stream으로 발행
-        for (OutboxEvent event : events) {
+        // 2. Relay로 발행 + 3. 성공/실패 상태 반영
+        publish(events);
+        return events.size();
+    }
+
+    /**
+     * 모든 파티션을 워커 스레드에 분배하여 발행
+     *
+     * <p>인스턴스마다 시작 파티션을 무작위로 골라 락 경합을 줄입니다.
+     * 모든 워커가 끝날 때까지 기다리므로 다음 주기와 겹치지 않습니다.</p>
+     *
+     * @return 파티션 중 가장 많이 claim된 이벤트 수
+     */
+    private int publishAllPartitions() {
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        List<Future<Integer>> futures = new ArrayList<>(partitions);
+
+        for (int i = 0; i < partitions; i++) {
+            int partition = (offset + i) % partitions;
+            futures.add(partitionExecutor.submit(() -> publishPartition(partition)));
+        }
+
+        int maxClaimed = 0;
+        for (Future<Integer> future : futures) {
             try {
-                RecordId recordId = publishToRedisStream(event);
+                maxClaimed = Math.max(maxClaimed, future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return maxClaimed;
+            } catch (ExecutionException e) {
+                log.error("Outbox 파티션 발행 실패", e.getCause());
+            }
+        }
+        return maxClaimed;
+    }
 
-                // 3. 발행 성공 → PUBLISHED
-                outboxService.markAsPublished(event.getId());
+    /**
+     * 파티션 락을 얻은 경우에만 해당 파티션 claim + 발행
+     *
+     * @param partition 파티션 번호
+     * @return claim된 이벤트 수 (락을 못 얻으면 0)
+     */
+    private int publishPartition(int partition) {
+        return partitionLeases.runIfLeased(partition, () -> {
+            List<OutboxEvent> events = outboxService.claimPendingEvents(batchSize, partition, partitions);
+            if (!events.isEmpty()) {
+                log.debug("Polling {} pending outbox events (partition={})", events.size(), partition);
+                publish(events);
+            }
+            return events.size();
+        }).orElse(0);
+    }
 
-                log.debug("Outbox 이벤트 발행 성공: id={}, eventType={}, recordId={}",
-                        event.getId(), event.getEventType(), recordId.getValue());
+    /**
+     * 지정한 이벤트 ID를 claim하여 발행 (즉시 발행용)
+     *
+     * <p>파티션 모드에서는 해당 파티션 락을 얻은 경우에만 발행합니다.
+     * 락을 얻지 못하면 이벤트는 PENDING으로 남고 파티션 워커가 순서대로 발행합니다.
+     * 배압으로 정지 중일 때도 PENDING으로 남깁니다.
+     * 같은 aggregate의 이전 이벤트가 아직 발행되지 않았으면 claim하지 않으므로
+     * 즉시 발행이 재시도 대기 중인 이전 이벤트를 앞지르지 않습니다.</p>
+     *
+     * @param partition 파티션 번호 ({@link #partitionOf(String)})
+     * @param eventIds  이벤트 ID 목록 (모두 같은 파티션)
+     * @return claim하여 발행 시도한 이벤트 수
+     */
+    public int publishByIds(int partition, List<Long> eventIds) {
+        if (backpressure.isPaused()) {
+            return 0;
+        }
 
-            } catch (Exception e) {
-                // 4. 발행 실패 → FAILED
-                log.error("Outbox 이벤트 발행 실패: id={}, eventType={}",
-                        event.getId(), event.getEventType(), e);
-                outboxService.markAsFailed(event.getId(), e.getMessage());
+        IntSupplier task = () -> {
+            List<OutboxEvent> events = outboxService.claimEventsByIds(eventIds);
+            if (!events.isEmpty()) {
+                publish(events);
             }
+            return events.size();
+        };
+
+        if (partitions > 1) {
+            return partitionLeases.runIfLeased(partition, task).orElse(0);
         }
+        return task.getAsInt();
     }
 
     /**
-     * Redis Stream으로 이벤트 발행
+     * aggregateId가 속한 파티션
      *
-     * @param event Outbox 이벤트
-     * @return Record ID
+     * @param aggregateId 도메인 ID
+     * @return 파티션 번호 (파티션 미사용 시 0)
      */
-    private RecordId publishToRedisStream(OutboxEvent event) {
-        String streamKey = resolveStreamKey(event.getAggregateType());
+    public int partitionOf(String aggregateId) {
+        return OutboxPartitionLeases.partitionOf(aggregateId, partitions);
+    }
 
-        // Redis Stream에 저장할 메시지 구성
-        Map<String, String> message = new HashMap<>();
-        message.put("eventId", String.valueOf(event.getId()));
-        message.put("aggregateType", event.getAggregateType());
-        message.put("aggregateId", event.getAggregateId());
-        message.put("eventType", event.getEventType());
-        message.put("payload", event.getPayload());
-        message.put("createdAt", event.getCreatedAt().toString());
+    /**
+     * claim된 이벤트 발행 + 결과 상태 반영
+     *
+     * <p>Polling, 파티션 워커, 즉시 발행({@link OutboxImmediateDispatcher})이 공유합니다.</p>
+     *
+     * @param events claim된 이벤트 목록 (상태: PROCESSING)
+     */
+    public void publish(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        metrics.recordClaimed(events.size());
 
-        // Redis Stream에 추가
-        MapRecord<String, String, String> record = StreamRecords.string(message)
-                .withStreamKey(streamKey);
+        if (batchEnabled) {
+            publishBatch(events);
+        } else {
+            publishOneByOne(events);
+        }
+    }
+
+    /**
+     * 배치 발행: Relay 1회 호출 + 상태 UPDATE 2회
+     *
+     * @param events claim된 이벤트 목록 (상태: PROCESSING)
+     */
+    private void publishBatch(List<OutboxEvent> events) {
+        List<RelayResult> results = relay(events);
 
-        RecordId recordId = redisTemplate.opsForStream().add(record);
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        Map<Long, String> errorsByEventId = new LinkedHashMap<>();
 
-        return recordId;
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            RelayResult result = results.get(i);
+
+            if (result.isSuccess()) {
+                published.add(event);
+                log.debug("Outbox 이벤트 발행 성공: id={}, eventType={}, messageId={}",
+                        event.getId(), event.getEventType(), result.messageId());
+            } else {
+                log.error("Outbox 이벤트 발행 실패: id={}, eventType={}, error={}",
+                        event.getId(), event.getEventType(), result.error());
+                errorsByEventId.put(event.getId(), result.error());
+            }
+        }
+
+        metrics.recordPublished(published);
+        metrics.recordFailed(errorsByEventId.size());
+
+        outboxService.markAllAsPublished(published.stream().map(OutboxEvent::getId).toList());
+        outboxService.markAllAsFailed(errorsByEventId);
+
+        log.debug("Outbox 배치 발행 완료: total={}, published={}, failed={}",
+                events.size(), published.size(), errorsByEventId.size());
     }
 
     /**
-     * aggregateType에 따라 Stream 키 결정
+     * 단건 발행: 이벤트별 Relay 호출 + 이벤트별 상태 변경
      *
-     * @param aggregateType 도메인 타입
-     * @return Redis Stream 키
+     * @param events claim된 이벤트 목록 (상태: PROCESSING)
      */
-    private String resolveStreamKey(String aggregateType) {
-        return switch (aggregateType.toLowerCase()) {
-            case "order" -> STREAM_PREFIX + "order-events";
-            case "payment" -> STREAM_PREFIX + "payment-events";
-            case "inventory" -> STREAM_PREFIX + "inventory-events";
-            default -> STREAM_PREFIX + "domain-events";
-        };
+    private void publishOneByOne(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            RelayResult result = relay(List.of(event)).get(0);
+
+            if (result.isSuccess()) {
+                metrics.recordPublished(List.of(event));
+
+                // 발행 성공 → PUBLISHED
+                outboxService.markAsPublished(event.getId());
+
+                log.debug("Outbox 이벤트 발행 성공: id={}, eventType={}, messageId={}",
+                        event.getId(), event.getEventType(), result.messageId());
+            } else {
+                // 발행 실패 → FAILED
+                log.error("Outbox 이벤트 발행 실패: id={}, eventType={}, error={}",
+                        event.getId(), event.getEventType(), result.error());
+                metrics.recordFailed(1);
+                outboxService.markAsFailed(event.getId(), result.error());
+            }
+        }
+    }
+
+    /**
+     * Relay 호출 (예외 또는 계약 위반 시 전체 실패 결과로 변환)
+     */
+    private List<RelayResult> relay(List<OutboxEvent> events) {
+        try {
+            List<RelayResult> results = messageRelay.publish(events);
+            if (results.size() == events.size()) {
+                return results;
+            }
+            log.error("Relay 결과 수 불일치: events={}, results={}", events.size(), results.size());
+            return failAll(events, "Relay result size mismatch");
+        } catch (Exception e) {
+            log.error("Outbox Relay 실패: events={}", events.size(), e);
+            return failAll(events, e.getMessage());
+        }
+    }
+
+    private static List<RelayResult> failAll(List<OutboxEvent> events, String error) {
+        return events.stream().map(event -> RelayResult.failure(event.getId(), error)).toList();
     }
 }
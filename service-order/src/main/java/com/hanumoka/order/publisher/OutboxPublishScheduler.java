@@ -0,0 +1,131 @@
+package com.hanumoka.order.publisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox Publisher 적응형 Polling 스케줄러
+ *
+ * <h3>Why?</h3>
+ * <ul>
+ *   <li>고정 1초 주기: 유휴 시에는 불필요한 DB 조회, backlog 시에는 인스턴스당 100건/초가 상한</li>
+ *   <li>배치 결과에 따라 다음 실행까지의 지연을 조절</li>
+ * </ul>
+ *
+ * <h3>지연 규칙</h3>
+ * <pre>
+ * 배치가 가득 참 (claimed == batchSize) → 0ms (곧바로 다음 배치)
+ * 일부만 채워짐 (0 &lt; claimed &lt; batchSize) → min-delay
+ * 비어 있음 (claimed == 0)              → 이전 지연 × 2 (최대 max-delay)
+ * </pre>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>outbox.publisher.poll.delay - 현재 Polling 지연 (ms)</li>
+ *   <li>outbox.publisher.batch.size - 설정된 배치 크기</li>
+ * </ul>
+ * <p>처리량/지연/backlog 메트릭은 {@link OutboxMetrics}가 담당합니다.</p>
+ *
+ * <h3>Why 전용 스레드?</h3>
+ * <p>Spring 기본 TaskScheduler는 스레드 1개를 모든 {@code @Scheduled}가 공유합니다.
+ * backlog 시 연속 실행하면 재시도/타임아웃 복구 스케줄러가 밀리므로 별도 스레드를 사용합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxPublishScheduler {
+
+    private final OutboxPollingPublisher publisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 최소 지연 (일부만 채워진 배치 이후)
+     */
+    @Value("${outbox.publisher.min-delay-ms:100}")
+    private long minDelayMs;
+
+    /**
+     * 최대 지연 (유휴 시 지수 백오프 상한)
+     */
+    @Value("${outbox.publisher.max-delay-ms:2000}")
+    private long maxDelayMs;
+
+    private final AtomicLong currentDelayMs = new AtomicLong();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        currentDelayMs.set(minDelayMs);
+        registerMetrics();
+
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("outbox-publish-scheduler").daemon(true).factory());
+        executor.schedule(this::runOnce, maxDelayMs, TimeUnit.MILLISECONDS);
+
+        log.info("Outbox 적응형 Polling 시작: batchSize={}, minDelay={}ms, maxDelay={}ms",
+                publisher.getBatchSize(), minDelayMs, maxDelayMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("outbox.publisher.poll.delay", currentDelayMs, AtomicLong::get)
+                .description("현재 Outbox Polling 지연")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.publisher.batch.size", publisher, OutboxPollingPublisher::getBatchSize)
+                .description("Outbox claim 배치 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1회 발행 후 결과에 따라 다음 실행 예약
+     */
+    private void runOnce() {
+        long nextDelay = maxDelayMs;
+        try {
+            int claimed = publisher.publishPendingEvents();
+            nextDelay = nextDelay(claimed);
+        } catch (Exception e) {
+            log.error("Outbox Polling 실패 (최대 지연 후 재시도)", e);
+        } finally {
+            currentDelayMs.set(nextDelay);
+            if (!executor.isShutdown()) {
+                executor.schedule(this::runOnce, nextDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 다음 실행까지의 지연 계산
+     *
+     * @param claimed 이번 배치에서 claim된 이벤트 수
+     * @return 다음 지연 (ms)
+     */
+    private long nextDelay(int claimed) {
+        if (claimed >= publisher.getBatchSize()) {
+            return 0;
+        }
+        if (claimed > 0) {
+            return minDelayMs;
+        }
+        long previous = Math.max(currentDelayMs.get(), minDelayMs);
+        return Math.min(previous * 2, maxDelayMs);
+    }
+}
@@ -0,0 +1,172 @@
+package com.hanumoka.order.publisher;
+
+import com.hanumoka.order.publisher.relay.OutboxRouter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Redis Stream 정리 (모든 Consumer Group이 확인한 항목만 XTRIM MINID)
+ *
+ * <h3>Why?</h3>
+ * <p>XADD만 하면 Stream이 계속 커져 Redis 메모리가 증가합니다.
+ * MAXLEN은 Consumer 처리 여부와 무관하게 잘라내므로 미전달 이벤트가 유실될 수 있습니다.</p>
+ *
+ * <h3>잘라낼 위치 계산 (Stream별)</h3>
+ * <ol>
+ *   <li>XINFO GROUPS로 Stream에 등록된 모든 Consumer Group 조회 (그룹이 없으면 정리하지 않음)</li>
+ *   <li>그룹별 안전 지점
+ *     <ul>
+ *       <li>PEL이 있으면: XPENDING의 가장 오래된 ID (아직 ACK되지 않은 항목부터 보존)</li>
+ *       <li>PEL이 없으면: last-delivered-id (그 이전은 모두 전달 + ACK됨)</li>
+ *     </ul>
+ *   </li>
+ *   <li>모든 그룹의 안전 지점 중 가장 작은 ID</li>
+ *   <li>retention(보존 기간)이 있으면 "현재 - retention" ID와 비교해 더 작은 쪽</li>
+ *   <li>XTRIM key MINID ~ id (근사 정리: 매크로 노드 단위로 잘라 비용이 작음)</li>
+ * </ol>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * outbox:
+ *   stream:
+ *     trim:
+ *       interval-ms: 60000
+ *       retention-ms: 3600000          # ACK된 항목도 이 시간 동안은 보존 (재처리/디버깅용)
+ *       retention-ms-by-stream: stream:payment-events=86400000
+ * </pre>
+ *
+ * <p>대상 Stream은 {@link OutboxRouter}에 설정된 전달 대상 전체이며, Redis Stream Relay를 사용할 때만 동작합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.type", havingValue = "redis-stream", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxStreamTrimmer {
+
+    private static final Comparator<RecordId> RECORD_ID_ORDER =
+            Comparator.comparingLong(RecordId::getTimestamp).thenComparingLong(RecordId::getSequence);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OutboxRouter router;
+
+    /**
+     * ACK된 항목 보존 기간 기본값 (0: ACK되면 바로 정리 대상)
+     */
+    @Value("${outbox.stream.trim.retention-ms:3600000}")
+    private long defaultRetentionMs;
+
+    /**
+     * Stream별 보존 기간 ("stream:order-events=3600000,...")
+     */
+    @Value("${outbox.stream.trim.retention-ms-by-stream:}")
+    private String retentionByStreamValue;
+
+    private Map<String, Long> retentionByStream;
+
+    @PostConstruct
+    public void init() {
+        retentionByStream = OutboxRouter.parseLongs(retentionByStreamValue);
+    }
+
+    /**
+     * 모든 Outbox Stream 정리
+     */
+    @Scheduled(fixedDelayString = "${outbox.stream.trim.interval-ms:60000}")
+    public void trimStreams() {
+        for (String streamKey : router.destinations()) {
+            try {
+                trim(streamKey);
+            } catch (Exception e) {
+                log.error("Redis Stream 정리 실패: stream={}", streamKey, e);
+            }
+        }
+    }
+
+    /**
+     * Stream 1개 정리
+     *
+     * @param streamKey Stream 키
+     * @return 삭제된 항목 수
+     */
+    public long trim(String streamKey) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            return 0;
+        }
+
+        XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        if (groups.isEmpty()) {
+            log.debug("Consumer Group 없음 → 정리하지 않음: stream={}", streamKey);
+            return 0;
+        }
+
+        RecordId minId = null;
+        for (XInfoGroup group : groups) {
+            RecordId groupSafeId = safeIdOf(streamKey, group);
+            if (minId == null || RECORD_ID_ORDER.compare(groupSafeId, minId) < 0) {
+                minId = groupSafeId;
+            }
+        }
+
+        long retentionMs = retentionByStream.getOrDefault(streamKey, defaultRetentionMs);
+        if (retentionMs > 0) {
+            RecordId retentionId = RecordId.of(System.currentTimeMillis() - retentionMs, 0);
+            if (RECORD_ID_ORDER.compare(retentionId, minId) < 0) {
+                minId = retentionId;
+            }
+        }
+
+        if (minId.getTimestamp() == 0 && minId.getSequence() == 0) {
+            return 0;
+        }
+
+        long trimmed = xTrimMinId(streamKey, minId);
+        if (trimmed > 0) {
+            log.debug("Redis Stream 정리: stream={}, minId={}, trimmed={}", streamKey, minId, trimmed);
+        }
+        return trimmed;
+    }
+
+    /**
+     * Consumer Group의 안전 지점 (이 ID 이전은 모두 ACK됨)
+     */
+    private RecordId safeIdOf(String streamKey, XInfoGroup group) {
+        if (group.pendingCount() > 0) {
+            PendingMessagesSummary pending = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+            if (pending != null && pending.minMessageId() != null) {
+                return RecordId.of(pending.minMessageId());
+            }
+        }
+        return RecordId.of(group.lastDeliveredId());
+    }
+
+    /**
+     * XTRIM key MINID ~ id
+     *
+     * <p>Spring Data Redis의 xTrim은 MAXLEN만 지원하므로 명령을 직접 실행합니다.</p>
+     */
+    private long xTrimMinId(String streamKey, RecordId minId) {
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("XTRIM",
+                        bytes(streamKey), bytes("MINID"), bytes("~"), bytes(minId.getValue())));
+        return result instanceof Long trimmed ? trimmed : 0;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
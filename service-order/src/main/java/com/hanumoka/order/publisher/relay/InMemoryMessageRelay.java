@@ -0,0 +1,117 @@
+package com.hanumoka.order.publisher.relay;
+
+import com.hanumoka.common.codec.PayloadCodecRegistry;
+import com.hanumoka.common.codec.PayloadCodecRegistry.EncodedPayload;
+import com.hanumoka.order.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 Relay (Redis 없이 Publisher 처리량 측정 / 테스트용)
+ *
+ * <p>코덱 인코딩과 라우팅까지는 Redis Stream Relay와 동일하게 수행하고,
+ * 브로커 왕복 대신 destination별 메모리 큐에 저장합니다.
+ * 따라서 측정되는 처리량은 claim → 인코딩 → 상태 UPDATE 구간의 상한입니다.</p>
+ *
+ * <p>destination별 큐는 고정 크기 {@link ArrayBlockingQueue}입니다.
+ * 가득 차면 가장 오래된 메시지를 버리고 넣으며, 메시지마다 큐 크기를 세는 비용(O(n))이 없습니다.</p>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * outbox:
+ *   relay:
+ *     type: in-memory
+ *     in-memory:
+ *       capacity: 100000   # destination별 보관 개수 (초과 시 오래된 메시지부터 버림)
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.type", havingValue = "in-memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryMessageRelay implements MessageRelay {
+
+    private final PayloadCodecRegistry codecRegistry;
+    private final OutboxRouter router;
+
+    @Value("${outbox.relay.in-memory.capacity:100000}")
+    private int capacity;
+
+    private final Map<String, ArrayBlockingQueue<RelayedMessage>> messagesByDestination = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong relayedCount = new AtomicLong();
+
+    @Override
+    public List<RelayResult> publish(List<OutboxEvent> events) {
+        List<RelayResult> results = new ArrayList<>(events.size());
+
+        for (OutboxEvent event : events) {
+            try {
+                String destination = router.route(event);
+                EncodedPayload payload = codecRegistry.encode(event.getEventType(), event.getPayload());
+                String messageId = String.valueOf(sequence.incrementAndGet());
+
+                ArrayBlockingQueue<RelayedMessage> queue =
+                        messagesByDestination.computeIfAbsent(destination, key -> new ArrayBlockingQueue<>(capacity));
+                RelayedMessage message = new RelayedMessage(destination, messageId, event.getId(),
+                        event.getAggregateId(), event.getEventType(), payload.codecId(), payload.data());
+                while (!queue.offer(message)) {
+                    queue.poll();
+                }
+
+                relayedCount.incrementAndGet();
+                results.add(RelayResult.success(event.getId(), messageId));
+            } catch (Exception e) {
+                log.error("Outbox 메모리 전달 실패: id={}, eventType={}", event.getId(), event.getEventType(), e);
+                results.add(RelayResult.failure(event.getId(), e.getMessage()));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * destination에 보관된 메시지 (오래된 순)
+     */
+    public List<RelayedMessage> messages(String destination) {
+        ArrayBlockingQueue<RelayedMessage> queue = messagesByDestination.get(destination);
+        return queue == null ? List.of() : List.copyOf(queue);
+    }
+
+    /**
+     * 기동 후 전달된 전체 메시지 수 (버려진 메시지 포함)
+     */
+    public long relayedCount() {
+        return relayedCount.get();
+    }
+
+    public void clear() {
+        messagesByDestination.clear();
+        relayedCount.set(0);
+    }
+
+    /**
+     * 메모리에 보관된 메시지
+     *
+     * @param destination 전달 대상
+     * @param messageId   Relay 내 순번
+     * @param eventId     Outbox 이벤트 ID
+     * @param aggregateId 도메인 ID
+     * @param eventType   이벤트 타입
+     * @param codec       코덱 ID
+     * @param payload     인코딩된 페이로드
+     */
+    public record RelayedMessage(String destination, String messageId, Long eventId,
+                                 String aggregateId, String eventType, String codec, byte[] payload) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.hanumoka.order.publisher.relay;
+
+import com.hanumoka.order.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 전달 SPI (메시지 브로커 추상화)
+ *
+ * <p>Publisher는 claim/상태 변경만 담당하고, 실제 전달은 구현체에 위임합니다.
+ * 새 전달 대상(Kafka 등)은 구현체만 추가하면 되고 Poller는 수정하지 않습니다.</p>
+ *
+ * <h3>구현체 (outbox.relay.type)</h3>
+ * <ul>
+ *   <li>redis-stream (기본): {@link RedisStreamMessageRelay} - 파이프라인 XADD</li>
+ *   <li>in-memory: {@link InMemoryMessageRelay} - Redis 없이 처리량 측정/테스트용</li>
+ * </ul>
+ *
+ * <h3>계약</h3>
+ * <ul>
+ *   <li>결과는 입력과 같은 순서, 같은 개수 (이벤트별 성공/실패)</li>
+ *   <li>일부 이벤트 실패는 예외가 아니라 실패 결과로 반환</li>
+ *   <li>전달 대상은 {@link OutboxRouter}로 결정</li>
+ * </ul>
+ */
+public interface MessageRelay {
+
+    /**
+     * 이벤트 일괄 전달
+     *
+     * @param events claim된 이벤트 목록 (상태: PROCESSING)
+     * @return 이벤트별 결과 (입력 순서)
+     */
+    List<RelayResult> publish(List<OutboxEvent> events);
+}
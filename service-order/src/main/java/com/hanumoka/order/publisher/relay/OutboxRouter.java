@@ -0,0 +1,120 @@
+package com.hanumoka.order.publisher.relay;
+
+import com.hanumoka.order.entity.OutboxEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox 이벤트 → 전달 대상(destination) 라우팅 (설정 기반)
+ *
+ * <h3>결정 순서</h3>
+ * <ol>
+ *   <li>event-type-routes에 eventType이 있으면 해당 대상</li>
+ *   <li>routes에 aggregateType이 있으면 해당 대상 (대소문자 무시)</li>
+ *   <li>그 외 default-destination</li>
+ * </ol>
+ *
+ * <h3>설정</h3>
+ * <pre>
+ * outbox:
+ *   relay:
+ *     routes: Order=stream:order-events,Payment=stream:payment-events,Inventory=stream:inventory-events
+ *     event-type-routes: OrderCancelled=stream:order-cancel-events
+ *     default-destination: stream:domain-events
+ * </pre>
+ *
+ * <p>Redis Stream Relay에서는 destination이 Stream 키입니다.</p>
+ */
+@Component
+@Slf4j
+public class OutboxRouter {
+
+    /**
+     * aggregateType → destination ("Order=stream:order-events,...")
+     */
+    @Value("${outbox.relay.routes:Order=stream:order-events,Payment=stream:payment-events,Inventory=stream:inventory-events}")
+    private String routesValue;
+
+    /**
+     * eventType → destination (aggregateType 라우팅보다 우선)
+     */
+    @Value("${outbox.relay.event-type-routes:}")
+    private String eventTypeRoutesValue;
+
+    @Value("${outbox.relay.default-destination:stream:domain-events}")
+    private String defaultDestination;
+
+    private Map<String, String> routesByAggregateType;
+    private Map<String, String> routesByEventType;
+    private List<String> destinations;
+
+    @PostConstruct
+    public void init() {
+        routesByAggregateType = parseEntries(routesValue).entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().toLowerCase(), Map.Entry::getValue));
+        routesByEventType = parseEntries(eventTypeRoutesValue);
+
+        Set<String> all = new LinkedHashSet<>(routesByAggregateType.values());
+        all.addAll(routesByEventType.values());
+        all.add(defaultDestination);
+        destinations = List.copyOf(all);
+
+        log.info("Outbox 라우팅: aggregateTypes={}, eventTypes={}, default={}",
+                routesByAggregateType, routesByEventType, defaultDestination);
+    }
+
+    /**
+     * 이벤트의 전달 대상
+     *
+     * @param event Outbox 이벤트
+     * @return destination (Redis Stream 키 등)
+     */
+    public String route(OutboxEvent event) {
+        String byEventType = routesByEventType.get(event.getEventType());
+        if (byEventType != null) {
+            return byEventType;
+        }
+        return routesByAggregateType.getOrDefault(event.getAggregateType().toLowerCase(), defaultDestination);
+    }
+
+    /**
+     * 라우팅될 수 있는 모든 전달 대상 (Stream 정리 등)
+     */
+    public List<String> destinations() {
+        return destinations;
+    }
+
+    /**
+     * "key=value,key=value" 설정 파싱
+     *
+     * @param value 쉼표 구분 "키=값" 목록
+     * @return 키 → 값
+     */
+    public static Map<String, String> parseEntries(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split("=", 2))
+                .collect(Collectors.toMap(pair -> pair[0].trim(), pair -> pair[1].trim()));
+    }
+
+    /**
+     * "destination=숫자,..." 설정 파싱 (Stream별 MAXLEN, 보존 기간 등)
+     *
+     * @param value 쉼표 구분 "destination=값" 목록
+     * @return destination → 값
+     */
+    public static Map<String, Long> parseLongs(String value) {
+        return parseEntries(value).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> Long.parseLong(e.getValue())));
+    }
+}
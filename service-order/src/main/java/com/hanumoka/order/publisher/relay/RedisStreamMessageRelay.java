@@ -0,0 +1,189 @@
+package com.hanumoka.order.publisher.relay;
+
+import com.hanumoka.common.codec.PayloadCodecRegistry;
+import com.hanumoka.common.codec.PayloadCodecRegistry.EncodedPayload;
+import com.hanumoka.order.entity.OutboxEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Stream Relay (파이프라인 XADD)
+ *
+ * <h3>동작 원리</h3>
+ * <ol>
+ *   <li>이벤트별 메시지 구성 (코덱 인코딩 실패 이벤트는 바로 실패 결과)</li>
+ *   <li>나머지 이벤트를 하나의 파이프라인으로 XADD (왕복 1회)</li>
+ *   <li>파이프라인 결과는 요청 순서와 같으므로 index로 이벤트와 매칭</li>
+ * </ol>
+ *
+ * <h3>페이로드 코덱</h3>
+ * <p>DB에는 JSON으로 저장하고, 발행 시 이벤트 타입별 코덱({@link PayloadCodecRegistry})으로 인코딩합니다.
+ * 메시지의 codec 필드(json, cbor, cbor+lz4 등)로 Consumer가 디코딩합니다.</p>
+ *
+ * <h3>Stream ID와 중복</h3>
+ * <p>Stream ID는 Redis 자동 ID(*)입니다. 타임아웃 복구나 재시도로 같은 이벤트가 두 번 XADD될 수 있으므로
+ * 메시지의 eventId 필드(outbox_event.id)로 Consumer가 중복을 걸러냅니다 (service-notification의 EventDeduplicator).
+ * Outbox row에서 Stream ID를 만드는 방식은 Stream 안에서 단조 증가해야 하는데,
+ * 파티션 병렬 발행과 인스턴스별 ID 블록 때문에 이를 보장할 수 없어 사용하지 않습니다.</p>
+ *
+ * <h3>Stream 길이 상한 (outbox.stream.max-len)</h3>
+ * <p>XADD ... MAXLEN ~ N 으로 Stream 길이의 안전 상한을 둡니다.
+ * MAXLEN은 Consumer 처리 여부와 무관하게 잘라내므로, 평상시 정리는
+ * ACK 기준으로 잘라내는 OutboxStreamTrimmer가 담당하고 MAXLEN은 넉넉하게 설정합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.type", havingValue = "redis-stream", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStreamMessageRelay implements MessageRelay {
+
+    private final StringRedisTemplate redisTemplate;
+    private final PayloadCodecRegistry codecRegistry;
+    private final OutboxRouter router;
+
+    /**
+     * Stream 길이 상한 기본값 (XADD MAXLEN ~, 0: 미사용)
+     */
+    @Value("${outbox.stream.max-len:0}")
+    private long defaultMaxLen;
+
+    /**
+     * Stream별 길이 상한 ("stream:order-events=100000,...")
+     */
+    @Value("${outbox.stream.max-len-by-stream:}")
+    private String maxLenByStreamValue;
+
+    private Map<String, Long> maxLenByStream;
+
+    @PostConstruct
+    public void init() {
+        maxLenByStream = OutboxRouter.parseLongs(maxLenByStreamValue);
+    }
+
+    @Override
+    public List<RelayResult> publish(List<OutboxEvent> events) {
+        RelayResult[] results = new RelayResult[events.size()];
+        List<ByteRecord> records = new ArrayList<>(events.size());
+        List<Integer> recordIndexes = new ArrayList<>(events.size());
+
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            try {
+                records.add(toStreamRecord(event));
+                recordIndexes.add(i);
+            } catch (Exception e) {
+                log.error("Outbox 메시지 구성 실패: id={}, eventType={}", event.getId(), event.getEventType(), e);
+                results[i] = RelayResult.failure(event.getId(), e.getMessage());
+            }
+        }
+
+        List<Object> replies = records.isEmpty() ? List.of() : executePipelinedXAdd(records);
+
+        for (int r = 0; r < records.size(); r++) {
+            int i = recordIndexes.get(r);
+            Long eventId = events.get(i).getId();
+            Object reply = r < replies.size() ? replies.get(r) : null;
+
+            if (reply instanceof Throwable error) {
+                results[i] = RelayResult.failure(eventId, error.getMessage());
+            } else if (reply == null) {
+                results[i] = RelayResult.failure(eventId, "No pipeline result");
+            } else {
+                results[i] = RelayResult.success(eventId, messageIdOf(reply));
+            }
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * 파이프라인으로 XADD 실행
+     *
+     * <p>일부 명령만 실패하면 {@link RedisPipelineException}에 성공 결과와 예외가 섞여 전달됩니다.</p>
+     *
+     * @param records 발행할 메시지 목록
+     * @return 메시지 순서대로 RecordId 또는 예외
+     */
+    private List<Object> executePipelinedXAdd(List<ByteRecord> records) {
+        try {
+            return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ByteRecord record : records) {
+                    connection.streamCommands().xAdd(record, xAddOptions(record));
+                }
+                return null;
+            });
+        } catch (RedisPipelineException e) {
+            // 일부 명령 실패: 결과 목록에 성공(RecordId)과 실패(Exception)가 순서대로 담겨 있음
+            return e.getPipelineResult();
+        } catch (Exception e) {
+            // 파이프라인 자체 실패 (연결 끊김 등): 전체 실패
+            log.error("Outbox 발행 파이프라인 실패: events={}", records.size(), e);
+            List<Object> failures = new ArrayList<>(records.size());
+            for (int i = 0; i < records.size(); i++) {
+                failures.add(e);
+            }
+            return failures;
+        }
+    }
+
+    private static String messageIdOf(Object reply) {
+        return reply instanceof RecordId recordId ? recordId.getValue() : String.valueOf(reply);
+    }
+
+    /**
+     * Stream별 XADD 옵션 (MAXLEN ~ N, 상한이 없으면 옵션 없음)
+     */
+    private XAddOptions xAddOptions(ByteRecord record) {
+        String streamKey = new String(record.getStream(), StandardCharsets.UTF_8);
+        long maxLen = maxLenByStream.getOrDefault(streamKey, defaultMaxLen);
+        return maxLen > 0
+                ? XAddOptions.maxlen(maxLen).approximateTrimming(true)
+                : XAddOptions.none();
+    }
+
+    /**
+     * Redis Stream에 저장할 메시지 구성
+     *
+     * <p>payload는 코덱으로 인코딩한 바이트를 그대로 저장하고 (문자열 변환 없음),
+     * 나머지 필드는 UTF-8 문자열로 저장합니다.</p>
+     *
+     * @param event Outbox 이벤트
+     * @return Stream Record (key: {@link OutboxRouter}가 결정한 Stream)
+     */
+    private ByteRecord toStreamRecord(OutboxEvent event) {
+        String streamKey = router.route(event);
+        EncodedPayload payload = codecRegistry.encode(event.getEventType(), event.getPayload());
+
+        Map<byte[], byte[]> message = new HashMap<>();
+        message.put(bytes("eventId"), bytes(String.valueOf(event.getId())));
+        message.put(bytes("aggregateType"), bytes(event.getAggregateType()));
+        message.put(bytes("aggregateId"), bytes(event.getAggregateId()));
+        message.put(bytes("eventType"), bytes(event.getEventType()));
+        message.put(bytes("codec"), bytes(payload.codecId()));
+        message.put(bytes("payload"), payload.data());
+        message.put(bytes("createdAt"), bytes(event.getCreatedAt().toString()));
+
+        return StreamRecords.rawBytes(message).withStreamKey(bytes(streamKey));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hanumoka.order.publisher.relay;
+
+/**
+ * 이벤트별 전달 결과
+ *
+ * @param eventId   Outbox 이벤트 ID
+ * @param messageId 전달 대상의 메시지 ID (Redis Stream Record ID 등, 실패 시 null)
+ * @param error     실패 사유 (성공 시 null)
+ */
+public record RelayResult(Long eventId, String messageId, String error) {
+
+    public static RelayResult success(Long eventId, String messageId) {
+        return new RelayResult(eventId, messageId, null);
+    }
+
+    public static RelayResult failure(Long eventId, String error) {
+        return new RelayResult(eventId, null, error != null ? error : "Unknown relay error");
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
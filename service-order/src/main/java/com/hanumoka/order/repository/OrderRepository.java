@@ -2,18 +2,101 @@ package com.hanumoka.order.repository;
 
 import com.hanumoka.order.entity.Order;
 import com.hanumoka.order.entity.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
-    List<Order> findByCustomerId(Long customerId);
+    /**
+     * 주문번호로 ID만 조회 (주문 캐시의 주문번호 → ID 매핑용)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.orderNumber = :orderNumber")
+    Optional<Long> findIdByOrderNumber(@Param("orderNumber") String orderNumber);
+
+    /**
+     * 고객 주문 첫 페이지 (최신순, idx_orders_customer)
+     *
+     * <p>InnoDB 보조 인덱스 (customer_id)의 각 항목 끝에는 PK(id)가 붙어 있으므로
+     * 실제 정렬은 (customer_id, id)입니다. customer_id = ? AND id &lt; ? ORDER BY id DESC를
+     * 별도 인덱스 없이 범위 스캔으로 처리합니다.</p>
+     */
+    List<Order> findByCustomerIdOrderByIdDesc(Long customerId, Limit limit);
+
+    /**
+     * 고객 주문 다음 페이지 (keyset: 이전 페이지 마지막 ID보다 작은 주문)
+     */
+    List<Order> findByCustomerIdAndIdLessThanOrderByIdDesc(Long customerId, Long after, Limit limit);
+
+    /**
+     * 고객 주문 전체 스트리밍 (내보내기용, 트랜잭션 안에서 소비)
+     *
+     * <p>MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍합니다.
+     * (그 외에는 전체 결과를 메모리에 올림)</p>
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Order> streamByCustomerIdOrderByIdDesc(Long customerId);
+
+    /**
+     * ID 순 청크 조회 (주문 요약 재구축용, keyset: 이전 청크 마지막 ID보다 큰 주문)
+     */
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
 
     List<Order> findByStatus(OrderStatus status);
 
+    /**
+     * 특정 시각 이전에 생성된 상태별 주문 ID (오래된 순, 오래된 PENDING 정리용)
+     *
+     * <p>idx_orders_status_created_at 범위 스캔으로 ID만 읽으므로 테이블 행에 접근하지 않습니다.</p>
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.createdAt < :createdBefore " +
+            "ORDER BY o.createdAt, o.id")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") OrderStatus status,
+                                            @Param("createdBefore") LocalDateTime createdBefore,
+                                            Limit limit);
+
     boolean existsByOrderNumber(String orderNumber);
+
+    /**
+     * 조건부 상태 전이 (compare-and-set)
+     *
+     * <p>현재 상태가 허용된 이전 상태일 때만 한 문장으로 변경합니다.
+     * 조회 → 변경 → @Version 검사 없이 DB가 원자적으로 판단합니다.
+     * version도 함께 올려 엔티티 기반 변경과의 낙관적 락 검사를 유지합니다.</p>
+     *
+     * @param id           주문 ID
+     * @param target       변경할 상태
+     * @param predecessors 허용된 이전 상태 ({@link OrderStatus#predecessors()})
+     * @param now          수정 시각
+     * @return 변경된 행 수 (0: 주문 없음, 이미 target 상태, 또는 허용되지 않는 전이)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :target, o.version = o.version + 1, o.updatedAt = :now " +
+            "WHERE o.id = :id AND o.status IN :predecessors")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("target") OrderStatus target,
+                         @Param("predecessors") Collection<OrderStatus> predecessors,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 상태만 조회 (전이 실패 원인 판단용)
+     */
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") Long id);
 }
@@ -3,8 +3,12 @@ package com.hanumoka.order.repository;
 import com.hanumoka.order.entity.OutboxDeadLetter;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -44,6 +48,16 @@ public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLett
      */
     long countByResolvedFalse();
 
+    /**
+     * 미해결 DLQ 수 (상한까지만 셈, 메트릭용)
+     *
+     * @param cap 최대 카운트
+     * @return min(미해결 DLQ 수, cap)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM outbox_dead_letter WHERE resolved = FALSE LIMIT :cap) t",
+            nativeQuery = true)
+    long countUnresolvedUpTo(@Param("cap") int cap);
+
     /**
      * 이벤트 타입별 미해결 DLQ 수 조회
      *
@@ -69,4 +83,26 @@ public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLett
      * @return DLQ (있으면)
      */
     boolean existsByOriginalId(Long originalId);
+
+    /**
+     * Outbox 이벤트를 DLQ로 일괄 복사 (INSERT ... SELECT ... WHERE NOT EXISTS)
+     *
+     * <p>이벤트별 exists/save 대신 한 문장으로 복사합니다.
+     * 이미 DLQ에 있는 이벤트(같은 original_id)는 NOT EXISTS로 건너뜁니다.
+     * INSERT IGNORE와 달리 잘림/NOT NULL/변환 오류는 경고로 바뀌지 않고 예외로 트랜잭션을 롤백합니다.</p>
+     *
+     * @param ids 원본 outbox_event ID 목록
+     * @param now DLQ 이동 시간
+     * @return 새로 복사된 row 수 (이미 DLQ에 있는 row 제외)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO outbox_dead_letter " +
+            "(original_id, aggregate_type, aggregate_id, event_type, payload, " +
+            "retry_count, last_error, original_created_at, failed_at, resolved) " +
+            "SELECT id, aggregate_type, aggregate_id, event_type, payload, " +
+            "retry_count, last_error, created_at, :now, FALSE " +
+            "FROM outbox_event o WHERE o.id IN (:ids) AND o.status = 'FAILED' " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_dead_letter d WHERE d.original_id = o.id)", nativeQuery = true)
+    int copyFromOutbox(@Param("ids") Collection<Long> ids,
+                       @Param("now") LocalDateTime now);
 }
@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,12 +22,29 @@ import java.util.List;
  * <h3>핵심 쿼리</h3>
  * <ul>
  *   <li>{@link #findPendingEventsForUpdate} - FOR UPDATE SKIP LOCKED로 다중 인스턴스 안전</li>
+ *   <li>{@link #claimPendingWithToken} - 단일 UPDATE + claim_token claim (엔티티 로딩/락 보유 없음)</li>
  *   <li>{@link #findFailedEventsForRetry} - 재시도 대상 이벤트 조회</li>
  *   <li>{@link #deletePublishedOlderThan} - 오래된 발행 완료 이벤트 정리</li>
+ *   <li>{@link #copyToArchive} / {@link #deletePublishedArchived} - 발행 완료 이벤트 보관 테이블 이동</li>
+ *   <li>{@link #markPublishedByIds} / {@link #markFailedByIds} - 배치 발행 결과 일괄 반영</li>
+ *   <li>{@link #markDueForRetry} / {@link #recoverTimedOutProcessing} - 조건 기반 일괄 상태 전이</li>
  * </ul>
  */
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
 
+    /**
+     * outbox_event 컬럼 (보관 테이블 UNION 조회용)
+     */
+    String EVENT_COLUMNS = "id, aggregate_type, aggregate_id, event_type, payload, status, created_at, " +
+            "published_at, retry_count, last_error, last_failed_at, processed_at, claim_token, next_retry_at";
+
+    /**
+     * outbox_event_archive를 outbox_event 컬럼으로 매핑 (보관 테이블에 없는 컬럼은 NULL)
+     */
+    String ARCHIVE_AS_EVENT_COLUMNS = "id, aggregate_type, aggregate_id, event_type, payload, 'PUBLISHED' AS status, " +
+            "created_at, published_at, retry_count, last_error, last_failed_at, NULL AS processed_at, " +
+            "NULL AS claim_token, NULL AS next_retry_at";
+
     /**
      * PENDING 상태 이벤트 조회 (FOR UPDATE SKIP LOCKED)
      *
@@ -45,6 +63,117 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")}) // SKIP LOCKED
     List<OutboxEvent> findPendingEventsForUpdate(Pageable pageable);
 
+    /**
+     * 파티션별 PENDING 이벤트 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>MOD(CRC32(aggregate_id), partitions) = partition 인 이벤트만 조회합니다.
+     * 같은 aggregateId는 항상 같은 파티션에 속하므로, 파티션 워커가 하나뿐이면
+     * aggregate 단위 발행 순서가 유지됩니다.</p>
+     *
+     * @param partition  파티션 번호 (0 ~ partitions-1)
+     * @param partitions 전체 파티션 수
+     * @param limit      최대 조회 수
+     * @return 해당 파티션의 PENDING 이벤트 목록 (created_at 순)
+     */
+    @Query(value = "SELECT * FROM outbox_event WHERE status = 'PENDING' " +
+            "AND MOD(CRC32(aggregate_id), :partitions) = :partition " +
+            "ORDER BY created_at ASC LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findPendingEventsInPartitionForUpdate(@Param("partition") int partition,
+                                                            @Param("partitions") int partitions,
+                                                            @Param("limit") int limit);
+
+    /**
+     * 지정한 ID 중 PENDING 이벤트 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * <p>커밋 직후 즉시 발행(after-commit dispatch)에서 사용합니다.
+     * Poller가 이미 가져간 이벤트(PROCESSING 이상 또는 락 보유 중)는 제외됩니다.</p>
+     *
+     * @param ids 이벤트 ID 목록
+     * @return PENDING 상태이고 락 획득 가능한 이벤트 목록
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id IN :ids AND e.status = 'PENDING' ORDER BY e.createdAt ASC")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")}) // SKIP LOCKED
+    List<OutboxEvent> findPendingEventsByIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 지정한 ID 중 같은 aggregate에 먼저 생긴 미발행 이벤트가 없는 PENDING 이벤트 ID (즉시 발행용)
+     *
+     * <p>같은 aggregate의 이전 이벤트가 PENDING/PROCESSING/FAILED(재시도 대기)로 남아 있으면 제외합니다.
+     * 즉시 발행이 그 이벤트를 앞질러 발행하지 않도록, 제외된 이벤트는 Polling이 created_at 순서대로 발행합니다.
+     * "이전"은 파티션 claim과 같은 (created_at, id) 순서이며, idx_outbox_aggregate로 aggregate별 이벤트만 확인합니다.</p>
+     *
+     * <p>이전 이벤트가 모두 PUBLISHED면 다시 미발행 상태가 되지 않으므로, 이 조회 후 claim해도 순서가 유지됩니다.</p>
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 지금 발행해도 aggregate 순서를 어기지 않는 PENDING 이벤트 ID
+     */
+    @Query(value = "SELECT e.id FROM outbox_event e WHERE e.id IN (:ids) AND e.status = 'PENDING' " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_event o " +
+            "WHERE o.aggregate_type = e.aggregate_type AND o.aggregate_id = e.aggregate_id " +
+            "AND o.status <> 'PUBLISHED' " +
+            "AND (o.created_at < e.created_at OR (o.created_at = e.created_at AND o.id < e.id)))",
+            nativeQuery = true)
+    List<Long> findPendingIdsWithoutOlderUnpublished(@Param("ids") Collection<Long> ids);
+
+    /**
+     * PENDING 이벤트를 단일 UPDATE로 claim (claim-token 전략)
+     *
+     * <p>조회 + 락 + 엔티티 변경 대신, 한 문장으로 최대 limit개를
+     * PROCESSING으로 바꾸고 claim_token을 기록합니다.
+     * 이후 {@link #findByClaimTokenOrderByCreatedAtAsc}로 claim한 이벤트를 읽습니다.</p>
+     *
+     * <p>MySQL UPDATE는 SKIP LOCKED를 지원하지 않으므로 동시에 claim하는 다른 문장이 잡은 row는
+     * 대기합니다. 문장 하나의 짧은 대기이며, 커밋 후 이미 PROCESSING이 된 row는 WHERE 조건에서 제외됩니다.</p>
+     *
+     * @param claimToken Poll 단위 claim 식별자
+     * @param now        claim 시간 (processed_at)
+     * @param limit      최대 claim 수
+     * @return claim된 row 수
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PROCESSING', processed_at = :now, claim_token = :claimToken " +
+            "WHERE status = 'PENDING' ORDER BY created_at LIMIT :limit", nativeQuery = true)
+    int claimPendingWithToken(@Param("claimToken") String claimToken,
+                              @Param("now") LocalDateTime now,
+                              @Param("limit") int limit);
+
+    /**
+     * 파티션의 PENDING 이벤트를 단일 UPDATE로 claim (claim-token 전략)
+     *
+     * @see #claimPendingWithToken
+     * @see #findPendingEventsInPartitionForUpdate
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PROCESSING', processed_at = :now, claim_token = :claimToken " +
+            "WHERE status = 'PENDING' AND MOD(CRC32(aggregate_id), :partitions) = :partition " +
+            "ORDER BY created_at LIMIT :limit", nativeQuery = true)
+    int claimPendingInPartitionWithToken(@Param("claimToken") String claimToken,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("partition") int partition,
+                                         @Param("partitions") int partitions,
+                                         @Param("limit") int limit);
+
+    /**
+     * 지정한 ID 중 PENDING 이벤트를 단일 UPDATE로 claim (claim-token 전략, 즉시 발행용)
+     *
+     * @see #findPendingEventsByIdsForUpdate
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PROCESSING', processed_at = :now, claim_token = :claimToken " +
+            "WHERE id IN (:ids) AND status = 'PENDING'", nativeQuery = true)
+    int claimPendingByIdsWithToken(@Param("claimToken") String claimToken,
+                                   @Param("now") LocalDateTime now,
+                                   @Param("ids") Collection<Long> ids);
+
+    /**
+     * claim_token으로 claim된 이벤트 조회
+     *
+     * @param claimToken Poll 단위 claim 식별자
+     * @return claim된 이벤트 목록 (created_at 순)
+     */
+    List<OutboxEvent> findByClaimTokenOrderByCreatedAtAsc(String claimToken);
+
     /**
      * 상태별 이벤트 조회
      */
@@ -66,38 +195,154 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
             Pageable pageable);
 
     /**
-     * 오래된 발행 완료 이벤트 삭제
+     * 오래된 발행 완료 이벤트 삭제 (청크 단위)
+     *
+     * <p>한 번에 전부 지우면 긴 트랜잭션 → purge lag/복제 지연이 생기므로
+     * idx_outbox_published 순서로 limit개씩 삭제합니다.
+     * 파티션 테이블에서는 DROP PARTITION을 사용합니다 (OutboxPartitionManager).</p>
      *
      * @param threshold 이 시간 이전에 발행된 이벤트 삭제
+     * @param limit     최대 삭제 수
      * @return 삭제된 row 수
      */
     @Modifying
-    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PUBLISHED' AND e.publishedAt < :threshold")
-    int deletePublishedOlderThan(@Param("threshold") LocalDateTime threshold);
+    @Query(value = "DELETE FROM outbox_event WHERE status = 'PUBLISHED' AND published_at < :threshold " +
+            "ORDER BY published_at LIMIT :limit", nativeQuery = true)
+    int deletePublishedOlderThan(@Param("threshold") LocalDateTime threshold,
+                                 @Param("limit") int limit);
 
     /**
-     * PROCESSING 상태에서 타임아웃된 이벤트 조회
+     * PROCESSING 타임아웃 이벤트 일괄 복구 (PROCESSING → PENDING)
      *
      * <p>Publisher가 비정상 종료되면 PROCESSING 상태로 남아있는 이벤트가 생김.
      * 일정 시간(예: 5분) 이상 PROCESSING 상태인 이벤트를 PENDING으로 복구.</p>
      *
+     * <p>조회 + dirty checking 대신 idx_outbox_processing_timeout(status, processed_at)
+     * 범위를 단일 UPDATE로 처리합니다. LIMIT으로 한 번에 잠그는 row 수를 제한합니다.</p>
+     *
      * @param threshold 이 시간 이전에 PROCESSING된 이벤트를 타임아웃으로 간주
-     * @param pageable  페이징
-     * @return 타임아웃된 PROCESSING 이벤트 목록
+     * @param limit     최대 복구 수
+     * @return 복구된 row 수
      */
-    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'PROCESSING' " +
-            "AND e.processedAt < :threshold ORDER BY e.processedAt ASC")
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
-    List<OutboxEvent> findTimedOutProcessingEvents(
-            @Param("threshold") LocalDateTime threshold,
-            Pageable pageable);
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PENDING', processed_at = NULL, claim_token = NULL " +
+            "WHERE status = 'PROCESSING' AND processed_at < :threshold " +
+            "ORDER BY processed_at LIMIT :limit", nativeQuery = true)
+    int recoverTimedOutProcessing(@Param("threshold") LocalDateTime threshold,
+                                  @Param("limit") int limit);
+
+    /**
+     * 재시도 시간이 도래한 FAILED 이벤트 일괄 재시도 예약 (FAILED → PENDING)
+     *
+     * <p>idx_outbox_status_next_retry (status, next_retry_at) 범위 스캔으로
+     * 도래한 이벤트만 읽고, 가장 오래 기다린 이벤트부터 처리합니다.</p>
+     *
+     * @param now           현재 시간 (next_retry_at &lt;= now 인 이벤트만)
+     * @param maxRetryCount 최대 재시도 횟수 (이 값 미만인 것만, 나머지는 DLQ 대상)
+     * @param limit         최대 처리 수
+     * @return 재시도 예약된 row 수
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'PENDING', next_retry_at = NULL " +
+            "WHERE status = 'FAILED' AND next_retry_at <= :now AND retry_count < :maxRetryCount " +
+            "ORDER BY next_retry_at LIMIT :limit", nativeQuery = true)
+    int markDueForRetry(@Param("now") LocalDateTime now,
+                        @Param("maxRetryCount") int maxRetryCount,
+                        @Param("limit") int limit);
+
+    /**
+     * FAILED 이벤트 일괄 재시도 예약 (FAILED → PENDING)
+     *
+     * @param ids 재시도할 이벤트 ID 목록
+     * @return 변경된 row 수
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = 'PENDING', e.nextRetryAt = null " +
+            "WHERE e.id IN :ids AND e.status = 'FAILED'")
+    int markForRetryByIds(@Param("ids") Collection<Long> ids);
 
     /**
-     * 특정 aggregate의 이벤트 조회 (디버깅/모니터링용)
+     * 특정 aggregate의 이벤트 조회 (디버깅/모니터링용, 보관 테이블 포함)
+     *
+     * <p>처리 중인 이벤트(outbox_event)와 발행 완료 후 이동된 이벤트(outbox_event_archive)를
+     * UNION ALL로 함께 조회합니다. 보관 테이블 row는 status=PUBLISHED로 매핑되며,
+     * outbox_event에 존재하지 않으므로 읽기 전용 트랜잭션에서만 사용해야 합니다.</p>
      */
+    @Query(value = "SELECT " + EVENT_COLUMNS + " FROM outbox_event " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId " +
+            "UNION ALL " +
+            "SELECT " + ARCHIVE_AS_EVENT_COLUMNS + " FROM outbox_event_archive " +
+            "WHERE aggregate_type = :aggregateType AND aggregate_id = :aggregateId " +
+            "ORDER BY created_at DESC", nativeQuery = true)
     List<OutboxEvent> findByAggregateTypeAndAggregateIdOrderByCreatedAtDesc(
-            String aggregateType, String aggregateId);
+            @Param("aggregateType") String aggregateType,
+            @Param("aggregateId") String aggregateId);
+
+    /**
+     * 발행 완료 이벤트 ID 조회 + 락 (보관 이동 대상)
+     *
+     * @param limit 최대 조회 수 (청크 크기)
+     * @return PUBLISHED 이벤트 ID 목록
+     */
+    @Query(value = "SELECT id FROM outbox_event WHERE status = 'PUBLISHED' " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findPublishedEventIdsForUpdate(@Param("limit") int limit);
+
+    /**
+     * 발행 완료 이벤트를 보관 테이블로 일괄 복사 (INSERT ... SELECT ... WHERE NOT EXISTS)
+     *
+     * <p>이미 보관된 ID는 NOT EXISTS로 건너뜁니다.
+     * INSERT IGNORE와 달리 복사 오류는 예외가 되어 청크 전체가 롤백됩니다.</p>
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 새로 복사된 row 수 (이미 보관된 row 제외)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO outbox_event_archive " +
+            "(id, aggregate_type, aggregate_id, event_type, payload, created_at, published_at, " +
+            "retry_count, last_error, last_failed_at) " +
+            "SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at, published_at, " +
+            "retry_count, last_error, last_failed_at " +
+            "FROM outbox_event o WHERE o.id IN (:ids) AND o.status = 'PUBLISHED' " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_event_archive a WHERE a.id = o.id)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보관 테이블에 있는 것이 확인된 발행 완료 이벤트만 일괄 삭제 (보관 이동 후)
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 삭제된 row 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE id IN (:ids) AND status = 'PUBLISHED' " +
+            "AND EXISTS (SELECT 1 FROM outbox_event_archive a WHERE a.id = outbox_event.id)",
+            nativeQuery = true)
+    int deletePublishedArchived(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 발행 완료 이벤트 일괄 삭제 (보관 비활성화 시)
+     *
+     * @param ids 이벤트 ID 목록
+     * @return 삭제된 row 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids AND e.status = 'PUBLISHED'")
+    int deletePublishedByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보관 기간이 지난 보관 이벤트 삭제 (청크 단위, 비파티션 보관 테이블)
+     *
+     * <p>파티션 보관 테이블(db/partitioning V9.1)은 DROP PARTITION으로 정리합니다 (OutboxRetentionManager).</p>
+     *
+     * @param threshold 이 시간 이전에 발행된 이벤트 삭제
+     * @param limit     최대 삭제 수
+     * @return 삭제된 row 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event_archive WHERE published_at < :threshold " +
+            "ORDER BY published_at LIMIT :limit", nativeQuery = true)
+    int deleteArchivedOlderThan(@Param("threshold") LocalDateTime threshold,
+                                @Param("limit") int limit);
 
     /**
      * 상태별 이벤트 수 조회 (모니터링용)
@@ -105,23 +350,98 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
     long countByStatus(OutboxStatus status);
 
     /**
-     * 최대 재시도 횟수를 초과한 FAILED 이벤트 조회 (DLQ 이동 대상)
+     * 상태별 가장 오래된 이벤트 생성 시간 (메트릭용)
      *
-     * <p>재시도 횟수가 maxRetryCount 이상인 FAILED 이벤트를 조회합니다.
-     * 이 이벤트들은 DLQ로 이동 후 원본 테이블에서 삭제됩니다.</p>
+     * <p>idx_outbox_status_created (status, created_at)의 첫 항목만 읽습니다 (index dive, 스캔 없음).</p>
+     *
+     * @param status 이벤트 상태
+     * @return 가장 오래된 created_at (없으면 null)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+
+    /**
+     * PENDING 이벤트 수 (상한까지만 셈, 메트릭용)
+     *
+     * <p>backlog가 커도 최대 cap개의 인덱스 항목만 읽습니다.</p>
+     *
+     * @param cap 최대 카운트
+     * @return min(PENDING 수, cap)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM outbox_event WHERE status = 'PENDING' LIMIT :cap) t",
+            nativeQuery = true)
+    long countPendingUpTo(@Param("cap") int cap);
+
+    /**
+     * 최대 재시도 횟수를 초과한 FAILED 이벤트 ID 조회 + 락 (DLQ 이동 대상)
+     *
+     * <p>재시도 횟수가 maxRetryCount 이상인 FAILED 이벤트의 ID만 조회합니다.
+     * 엔티티를 로딩하지 않고, 같은 트랜잭션에서 INSERT ... SELECT / DELETE로 이동합니다.</p>
      *
      * <p>다중 인스턴스 환경에서 같은 이벤트를 중복 처리하지 않도록
      * FOR UPDATE SKIP LOCKED를 사용합니다.</p>
      *
      * @param maxRetryCount 최대 재시도 횟수 (이 값 이상인 것만)
-     * @param pageable      페이징
-     * @return DLQ 이동 대상 이벤트 목록
+     * @param limit         최대 조회 수 (청크 크기)
+     * @return DLQ 이동 대상 이벤트 ID 목록
      */
-    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'FAILED' " +
-            "AND e.retryCount >= :maxRetryCount ORDER BY e.createdAt ASC")
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
-    List<OutboxEvent> findExhaustedFailedEvents(
-            @Param("maxRetryCount") int maxRetryCount,
-            Pageable pageable);
+    @Query(value = "SELECT id FROM outbox_event WHERE status = 'FAILED' AND retry_count >= :maxRetryCount " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findExhaustedFailedEventIdsForUpdate(@Param("maxRetryCount") int maxRetryCount,
+                                                    @Param("limit") int limit);
+
+    /**
+     * DLQ에 있는 것이 확인된 FAILED 이벤트만 일괄 삭제 (DLQ 복사 후)
+     *
+     * <p>복사되지 않은 row는 남겨 두므로, 복사와 삭제 사이에 무엇이 어긋나도 이벤트를 잃지 않습니다.</p>
+     *
+     * @param ids 삭제할 이벤트 ID 목록
+     * @return 삭제된 row 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE id IN (:ids) AND status = 'FAILED' " +
+            "AND EXISTS (SELECT 1 FROM outbox_dead_letter d WHERE d.original_id = outbox_event.id)",
+            nativeQuery = true)
+    int deleteFailedCopiedToDlq(@Param("ids") Collection<Long> ids);
+
+    /**
+     * PROCESSING 이벤트 일괄 발행 완료 처리 (PROCESSING → PUBLISHED)
+     *
+     * <p>배치 발행 후 성공한 이벤트 전체를 단일 UPDATE로 반영합니다.
+     * 이벤트별 findById + dirty checking 대비 DB 왕복을 N회 → 1회로 줄입니다.</p>
+     *
+     * @param ids 발행 성공한 이벤트 ID 목록
+     * @param now 발행 완료 시간
+     * @return 변경된 row 수
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = 'PUBLISHED', e.publishedAt = :now " +
+            "WHERE e.id IN :ids AND e.status = 'PROCESSING'")
+    int markPublishedByIds(@Param("ids") Collection<Long> ids,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * PROCESSING 이벤트 일괄 실패 처리 (PROCESSING → FAILED)
+     *
+     * <p>같은 에러 메시지를 가진 실패 이벤트를 단일 UPDATE로 반영합니다.
+     * retryCount는 row별로 1씩 증가합니다.</p>
+     *
+     * <p>next_retry_at은 {@link OutboxEvent#retryBackoff}와 같은 공식(2^retryCount 분 × (1 ± 0.2))을
+     * row별 RAND()로 계산합니다. MySQL 단일 테이블 UPDATE는 SET을 왼쪽부터 평가하므로
+     * retry_count 증가보다 먼저 계산합니다.</p>
+     *
+     * @param ids   발행 실패한 이벤트 ID 목록
+     * @param error 에러 메시지
+     * @param now   실패 시간
+     * @return 변경된 row 수
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET status = 'FAILED', " +
+            "next_retry_at = DATE_ADD(:now, INTERVAL ROUND(POW(2, LEAST(retry_count + 1, 10)) * 60000000 " +
+            "* (1 + (RAND() * 2 - 1) * 0.2)) MICROSECOND), " +
+            "retry_count = retry_count + 1, last_error = :error, last_failed_at = :now " +
+            "WHERE id IN (:ids) AND status = 'PROCESSING'", nativeQuery = true)
+    int markFailedByIds(@Param("ids") Collection<Long> ids,
+                        @Param("error") String error,
+                        @Param("now") LocalDateTime now);
 }
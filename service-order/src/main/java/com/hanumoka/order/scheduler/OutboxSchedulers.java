@@ -1,22 +1,18 @@
 package com.hanumoka.order.scheduler;
 
-import com.hanumoka.order.entity.OutboxEvent;
+import com.hanumoka.order.service.OutboxRetentionManager;
 import com.hanumoka.order.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.List;
-
 /**
  * Outbox 관련 스케줄러
  *
  * <h3>스케줄러 목록</h3>
  * <ul>
- *   <li>{@link #retryFailedEvents} - 실패한 이벤트 재시도 (5분마다)</li>
+ *   <li>{@link #retryFailedEvents} - 실패한 이벤트 재시도 (30초마다)</li>
  *   <li>{@link #recoverTimedOutEvents} - PROCESSING 타임아웃 복구 (1분마다)</li>
  *   <li>{@link #cleanupOldEvents} - 오래된 이벤트 정리 (매일 새벽 2시)</li>
  * </ul>
@@ -27,6 +23,7 @@ import java.util.List;
 public class OutboxSchedulers {
 
     private final OutboxService outboxService;
+    private final OutboxRetentionManager retentionManager;
 
     /**
      * 최대 재시도 횟수
@@ -36,18 +33,33 @@ public class OutboxSchedulers {
     /**
      * 재시도 배치 크기
      */
-    private static final int RETRY_BATCH_SIZE = 50;
+    private static final int RETRY_BATCH_SIZE = 500;
+
+    /**
+     * 1회 실행당 최대 재시도 배치 수 (도래한 이벤트가 많을 때 연속 처리)
+     */
+    private static final int MAX_RETRY_BATCHES = 10;
 
     /**
-     * DLQ 이동 배치 크기
+     * DLQ 이동 청크 크기 (청크마다 별도 트랜잭션)
      */
-    private static final int DLQ_BATCH_SIZE = 100;
+    private static final int DLQ_BATCH_SIZE = 500;
+
+    /**
+     * 1회 실행당 최대 DLQ 이동 청크 수
+     */
+    private static final int MAX_DLQ_BATCHES = 10;
 
     /**
      * 발행 완료 이벤트 보관 기간 (일)
      */
     private static final int DAYS_TO_KEEP = 7;
 
+    /**
+     * 해결된 DLQ 보관 기간 (일, 파티션 테이블에서만 적용)
+     */
+    private static final int DLQ_DAYS_TO_KEEP = 30;
+
     /**
      * PROCESSING 타임아웃 시간 (분)
      *
@@ -62,46 +74,50 @@ public class OutboxSchedulers {
     private static final int TIMEOUT_BATCH_SIZE = 100;
 
     /**
-     * 실패한 이벤트 재시도 (5분마다)
+     * 실패한 이벤트 재시도 (30초마다)
      *
      * <h3>처리 순서</h3>
      * <ol>
      *   <li>최대 재시도 초과 이벤트 → DLQ 이동 (먼저 처리)</li>
-     *   <li>재시도 가능 이벤트 → 지수 백오프 후 PENDING으로 변경</li>
+     *   <li>next_retry_at이 지난 이벤트 → PENDING으로 변경</li>
      * </ol>
      *
-     * <h3>지수 백오프</h3>
+     * <h3>지수 백오프 (±20% 지터)</h3>
      * <ul>
-     *   <li>1회 실패: 2분 후 재시도</li>
-     *   <li>2회 실패: 4분 후 재시도</li>
-     *   <li>3회 실패: 8분 후 재시도</li>
-     *   <li>4회 실패: 16분 후 재시도</li>
+     *   <li>1회 실패: 약 2분 후 재시도</li>
+     *   <li>2회 실패: 약 4분 후 재시도</li>
+     *   <li>3회 실패: 약 8분 후 재시도</li>
+     *   <li>4회 실패: 약 16분 후 재시도</li>
      *   <li>5회 실패: DLQ 이동</li>
      * </ul>
+     *
+     * <p>재시도 시간은 실패 시점에 next_retry_at으로 저장되고,
+     * 여기서는 (status, next_retry_at) 인덱스로 도래한 이벤트만 UPDATE합니다
+     * ({@link OutboxService#scheduleRetries}). 배치가 가득 차면 이어서 다음 배치를 처리합니다.</p>
      */
-    @Scheduled(fixedRate = 300000) // 5분마다
+    @Scheduled(fixedDelay = 30000) // 30초마다
     public void retryFailedEvents() {
-        // 1. 먼저 exhausted 이벤트를 DLQ로 이동
-        // (로그는 OutboxService에서 출력)
-        outboxService.moveExhaustedEventsToDlq(MAX_RETRY_COUNT, DLQ_BATCH_SIZE);
-
-        // 2. 재시도 가능한 이벤트 처리
-        List<OutboxEvent> failedEvents = outboxService.findFailedEventsForRetry(
-                MAX_RETRY_COUNT, RETRY_BATCH_SIZE);
-
-        if (failedEvents.isEmpty()) {
-            return;
+        // 1. 먼저 exhausted 이벤트를 DLQ로 이동 (청크별 트랜잭션)
+        int movedToDlq = 0;
+        for (int i = 0; i < MAX_DLQ_BATCHES; i++) {
+            int moved = outboxService.moveExhaustedEventsToDlq(MAX_RETRY_COUNT, DLQ_BATCH_SIZE);
+            movedToDlq += moved;
+            if (moved < DLQ_BATCH_SIZE) {
+                break;
+            }
         }
 
-        log.info("재시도 대상 Outbox 이벤트: {}개", failedEvents.size());
+        if (movedToDlq > 0) {
+            log.error("Outbox DLQ 이동 완료: {}개 이벤트", movedToDlq);
+        }
 
+        // 2. 재시도 시간이 도래한 이벤트를 PENDING으로 일괄 변경 (배치별 트랜잭션)
         int retried = 0;
-
-        for (OutboxEvent event : failedEvents) {
-            // 지수 백오프 체크
-            if (shouldRetry(event)) {
-                outboxService.markForRetry(event.getId());
-                retried++;
+        for (int i = 0; i < MAX_RETRY_BATCHES; i++) {
+            int scheduled = outboxService.scheduleRetries(MAX_RETRY_COUNT, RETRY_BATCH_SIZE);
+            retried += scheduled;
+            if (scheduled < RETRY_BATCH_SIZE) {
+                break;
             }
         }
 
@@ -110,30 +126,6 @@ public class OutboxSchedulers {
         }
     }
 
-    /**
-     * 지수 백오프에 따라 재시도 가능 여부 확인
-     *
-     * <p>마지막 실패 시간(lastFailedAt)을 기준으로 계산합니다.</p>
-     *
-     * @param event Outbox 이벤트
-     * @return 재시도 가능하면 true
-     */
-    private boolean shouldRetry(OutboxEvent event) {
-        LocalDateTime lastFailedAt = event.getLastFailedAt();
-
-        // lastFailedAt이 없으면 즉시 재시도 (이전 버전 호환)
-        if (lastFailedAt == null) {
-            return true;
-        }
-
-        // 2^retryCount 분 후 재시도
-        // retryCount=1 → 2분, retryCount=2 → 4분, retryCount=3 → 8분
-        long waitMinutes = (long) Math.pow(2, event.getRetryCount());
-        LocalDateTime retryAfter = lastFailedAt.plus(Duration.ofMinutes(waitMinutes));
-
-        return LocalDateTime.now().isAfter(retryAfter);
-    }
-
     /**
      * PROCESSING 타임아웃 복구 (1분마다)
      *
@@ -163,12 +155,16 @@ public class OutboxSchedulers {
     /**
      * 오래된 발행 완료 이벤트 정리 (매일 새벽 2시)
      *
-     * <p>7일 이상 된 PUBLISHED 상태 이벤트 삭제</p>
+     * <ul>
+     *   <li>파티션 테이블: 미래 파티션 생성 + 7일 지난 파티션 DROP (해결된 DLQ는 30일)</li>
+     *   <li>일반 테이블: 7일 이상 된 PUBLISHED 이벤트를 청크 단위로 삭제</li>
+     * </ul>
+     *
+     * @see OutboxRetentionManager
      */
     @Scheduled(cron = "0 0 2 * * *") // 매일 새벽 2시
     public void cleanupOldEvents() {
         log.info("Outbox 이벤트 정리 시작 ({}일 이전)", DAYS_TO_KEEP);
-        int deleted = outboxService.cleanupOldEvents(DAYS_TO_KEEP);
-        log.info("Outbox 이벤트 정리 완료: {}개 삭제", deleted);
+        retentionManager.cleanup(DAYS_TO_KEEP, DLQ_DAYS_TO_KEEP);
     }
 }
@@ -0,0 +1,133 @@
+package com.hanumoka.order.scheduler;
+
+import com.hanumoka.order.entity.OrderStatus;
+import com.hanumoka.order.repository.OrderRepository;
+import com.hanumoka.order.service.OrderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 PENDING 주문 정리
+ *
+ * <h3>Why?</h3>
+ * <p>Saga 진행 중 오케스트레이터가 종료되면 주문이 PENDING으로 영원히 남습니다.
+ * 이런 주문은 PENDING 조회/집계 결과를 오염시키고, 재고 서비스의 예약 수량도 해제되지 않습니다.</p>
+ *
+ * <h3>처리 순서 (interval-ms마다)</h3>
+ * <ol>
+ *   <li>cutoff = 현재 - pending-ttl-minutes</li>
+ *   <li>WHERE status = 'PENDING' AND created_at &lt; cutoff ORDER BY created_at, id LIMIT batch-size
+ *       (idx_orders_status_created_at 범위 스캔, ID만 조회)</li>
+ *   <li>주문별 조건부 UPDATE로 PENDING → CANCELLED ({@link OrderService#cancelStalePendingOrder})
+ *       + 같은 트랜잭션에서 OrderCancelled(reason=PENDING_TIMEOUT) Outbox 저장</li>
+ *   <li>배치가 가득 찼으면 다음 배치 (1회 실행당 최대 max-batches)</li>
+ * </ol>
+ *
+ * <p>취소된 주문은 범위에서 빠지므로 다음 배치는 다시 범위 맨 앞부터 읽으면 됩니다.
+ * 조회와 취소 사이에 Saga가 주문을 확정하거나 다른 인스턴스가 먼저 취소하면 UPDATE가 0행이 되어 건너뛰므로
+ * 여러 인스턴스가 동시에 실행해도 안전합니다 (락 불필요).</p>
+ *
+ * <h3>한계: 재고 예약은 해제하지 않음</h3>
+ * <p>이 스케줄러는 orders만 정리합니다. 현재 OrderCancelled 구독자는 service-notification(알림 발송)뿐이며,
+ * 재고 예약은 inventory 행의 Saga 단위 Semantic Lock(saga_id, reserved_quantity)으로 관리되고
+ * 주문 이벤트에는 sagaId/상품/수량이 없어 이벤트만으로 해제할 수 없습니다.
+ * 중단된 Saga의 예약은 오케스트레이터 보상(cancelReservation) 또는 운영자가 별도로 해제해야 합니다.</p>
+ *
+ * <h3>메트릭</h3>
+ * <ul>
+ *   <li>order.reaper.reaped - 취소한 주문 수 (분당: increase(order_reaper_reaped_total[1m]))</li>
+ *   <li>order.reaper.skipped - 조회 후 상태가 바뀌어 건너뛴 주문 수</li>
+ * </ul>
+ *
+ * <p>pending-ttl-minutes는 가장 긴 Saga(재시도 포함)보다 충분히 길게 설정합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "order.reaper.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class StalePendingOrderReaper {
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이 시간보다 오래 PENDING인 주문을 취소 (분)
+     */
+    @Value("${order.reaper.pending-ttl-minutes:30}")
+    private long pendingTtlMinutes;
+
+    /**
+     * 1회 조회 건수
+     */
+    @Value("${order.reaper.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 1회 실행당 최대 배치 수
+     */
+    @Value("${order.reaper.max-batches:10}")
+    private int maxBatches;
+
+    private Counter reapedCounter;
+    private Counter skippedCounter;
+
+    @PostConstruct
+    public void registerMeters() {
+        reapedCounter = Counter.builder("order.reaper.reaped")
+                .description("오래된 PENDING 상태로 취소된 주문 수")
+                .register(meterRegistry);
+        skippedCounter = Counter.builder("order.reaper.skipped")
+                .description("정리 대상 조회 후 상태가 바뀌어 건너뛴 주문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오래된 PENDING 주문 정리
+     */
+    @Scheduled(fixedDelayString = "${order.reaper.interval-ms:60000}")
+    public void reap() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTtlMinutes);
+        int reaped = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            List<Long> orderIds = orderRepository.findIdsByStatusCreatedBefore(
+                    OrderStatus.PENDING, cutoff, Limit.of(batchSize));
+
+            int reapedInBatch = 0;
+            for (Long orderId : orderIds) {
+                try {
+                    if (orderService.cancelStalePendingOrder(orderId)) {
+                        reapedInBatch++;
+                    } else {
+                        skippedCounter.increment();
+                    }
+                } catch (Exception e) {
+                    log.error("오래된 PENDING 주문 취소 실패: orderId={}", orderId, e);
+                }
+            }
+            reapedCounter.increment(reapedInBatch);
+            reaped += reapedInBatch;
+
+            // 마지막 배치이거나, 하나도 취소하지 못했으면 (실패한 주문만 남음) 다음 실행에서 재시도
+            if (orderIds.size() < batchSize || reapedInBatch == 0) {
+                break;
+            }
+        }
+
+        if (reaped > 0) {
+            log.warn("오래된 PENDING 주문 정리 완료: {}건 (createdAt < {})", reaped, cutoff);
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.hanumoka.order.service;
 
+import com.hanumoka.common.event.OrderCancelledEvent;
+import com.hanumoka.common.event.OrderCompletedEvent;
+import com.hanumoka.common.event.OrderConfirmedEvent;
 import com.hanumoka.common.event.OrderCreatedEvent;
 import com.hanumoka.common.exception.BusinessException;
 import com.hanumoka.common.exception.ErrorCode;
+import com.hanumoka.common.id.TimeOrderedIdGenerator;
+import com.hanumoka.order.cache.OrderReadCache;
 import com.hanumoka.order.entity.Order;
+import com.hanumoka.order.entity.OrderItem;
 import com.hanumoka.order.entity.OrderStatus;
 import com.hanumoka.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -21,8 +34,34 @@ import java.util.UUID;
 @Slf4j
 public class OrderService {
 
+    /**
+     * 오래된 PENDING 주문 정리 시 OrderCancelled 이벤트의 취소 사유
+     */
+    public static final String CANCEL_REASON_PENDING_TIMEOUT = "PENDING_TIMEOUT";
+
     private final OrderRepository orderRepository;
     private final OutboxService outboxService;
+    private final EntityManager entityManager;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final OrderReadCache orderReadCache;
+
+    /**
+     * 일괄 주문 생성 최대 건수
+     */
+    @Value("${order.batch.max-size:5000}")
+    private int batchMaxSize;
+
+    /**
+     * 일괄 주문 생성 시 flush/clear 단위 (hibernate.jdbc.batch_size와 같게)
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int flushSize;
+
+    /**
+     * 고객별 주문 목록 최대 페이지 크기
+     */
+    @Value("${order.history.max-page-size:200}")
+    private int maxPageSize;
 
     /**
      * 주문 생성
@@ -50,26 +89,130 @@ public class OrderService {
         Order savedOrder = orderRepository.save(order);
 
         // 2. Outbox 이벤트 저장 (같은 트랜잭션!)
+        saveOrderCreatedEvent(savedOrder);
+
+        log.info("주문 생성 완료 (Outbox 이벤트 포함): orderNumber={}, customerId={}",
+                orderNumber, customerId);
+
+        return savedOrder;
+    }
+
+    /**
+     * 일괄 주문 생성 (B2B 대량 등록)
+     *
+     * <h3>단일 트랜잭션</h3>
+     * <p>모든 주문과 OrderCreated Outbox 이벤트를 한 트랜잭션으로 저장합니다 (전부 성공 또는 전부 롤백).</p>
+     *
+     * <h3>INSERT 배치</h3>
+     * <ul>
+     *   <li>ID는 pooled TableGenerator로 persist 시점에 할당 (IDENTITY는 배치 불가)</li>
+     *   <li>hibernate.jdbc.batch_size + order_inserts로 테이블별 INSERT를 묶어 전송</li>
+     *   <li>rewriteBatchedStatements=true로 MySQL 드라이버가 multi-row INSERT로 변환</li>
+     *   <li>batch_size마다 flush + clear로 영속성 컨텍스트 크기 제한</li>
+     * </ul>
+     *
+     * <h3>입력 검증</h3>
+     * <p>저장을 시작하기 전에 전체 항목을 검증합니다. 잘못된 항목이 하나라도 있으면
+     * flush 시점의 제약 위반(500)이나 합계 계산 중 NPE 대신 ORDER_BATCH_ITEM_INVALID(400)로 거부합니다.</p>
+     *
+     * @param newOrders 생성할 주문 목록 (최대 order.batch.max-size건)
+     * @return 생성된 주문 (영속성 컨텍스트에서 분리된 상태)
+     */
+    @Transactional
+    public List<Order> createOrders(List<NewOrder> newOrders) {
+        if (newOrders == null || newOrders.isEmpty() || newOrders.size() > batchMaxSize) {
+            throw new BusinessException(ErrorCode.ORDER_BATCH_SIZE_INVALID.toErrorInfo());
+        }
+        validateNewOrders(newOrders);
+
+        List<Order> created = new ArrayList<>(newOrders.size());
+
+        for (NewOrder newOrder : newOrders) {
+            Order order = Order.builder()
+                    .orderNumber(generateOrderNumber())
+                    .customerId(newOrder.customerId())
+                    .status(OrderStatus.PENDING)
+                    .build();
+
+            if (newOrder.items() != null) {
+                for (NewOrderItem item : newOrder.items()) {
+                    order.addOrderItem(OrderItem.builder()
+                            .productId(item.productId())
+                            .productName(item.productName())
+                            .quantity(item.quantity())
+                            .unitPrice(item.unitPrice())
+                            .build());
+                }
+            }
+
+            entityManager.persist(order);
+            saveOrderCreatedEvent(order);
+            created.add(order);
+
+            if (created.size() % flushSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        log.info("일괄 주문 생성 완료 (Outbox 이벤트 포함): count={}", created.size());
+        return created;
+    }
+
+    /**
+     * 일괄 생성 입력 검증 (첫 번째 잘못된 항목에서 거부)
+     */
+    private void validateNewOrders(List<NewOrder> newOrders) {
+        for (int i = 0; i < newOrders.size(); i++) {
+            NewOrder newOrder = newOrders.get(i);
+            if (newOrder == null || newOrder.customerId() == null) {
+                throw invalidBatchItem(i, "customerId 누락");
+            }
+            if (newOrder.items() == null) {
+                continue;
+            }
+            for (NewOrderItem item : newOrder.items()) {
+                if (item == null || item.productId() == null
+                        || item.productName() == null || item.productName().isBlank()) {
+                    throw invalidBatchItem(i, "상품 정보 누락");
+                }
+                if (item.quantity() == null || item.quantity() <= 0) {
+                    throw invalidBatchItem(i, "수량은 1 이상");
+                }
+                if (item.unitPrice() == null || item.unitPrice().signum() < 0) {
+                    throw invalidBatchItem(i, "단가는 0 이상");
+                }
+            }
+        }
+    }
+
+    private static BusinessException invalidBatchItem(int index, String reason) {
+        log.warn("일괄 주문 생성 거부: index={}, reason={}", index, reason);
+        return new BusinessException(ErrorCode.ORDER_BATCH_ITEM_INVALID.toErrorInfo());
+    }
+
+    /**
+     * OrderCreated Outbox 이벤트 저장 (주문과 같은 트랜잭션)
+     */
+    private void saveOrderCreatedEvent(Order order) {
         OrderCreatedEvent event = OrderCreatedEvent.builder()
-                .orderId(savedOrder.getId())
-                .orderNumber(savedOrder.getOrderNumber())
-                .customerId(savedOrder.getCustomerId())
-                .totalAmount(savedOrder.getTotalAmount())
-                .status(savedOrder.getStatus().name())
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerId(order.getCustomerId())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus().name())
                 .occurredAt(LocalDateTime.now())
                 .build();
 
         outboxService.save(
                 "Order",
-                savedOrder.getOrderNumber(),
+                order.getOrderNumber(),
                 "OrderCreated",
                 event
         );
-
-        log.info("주문 생성 완료 (Outbox 이벤트 포함): orderNumber={}, customerId={}",
-                orderNumber, customerId);
-
-        return savedOrder;
     }
 
     /**
@@ -89,30 +232,190 @@ public class OrderService {
     }
 
     /**
-     * 고객별 주문 목록 조회
+     * 고객별 주문 목록 조회 (keyset 페이지네이션, 최신순)
+     *
+     * <p>OFFSET 대신 이전 페이지의 마지막 ID(after)를 커서로 사용하므로
+     * 몇 번째 페이지든 idx_orders_customer (customer_id + PK id) 범위 스캔 한 번으로 조회합니다.</p>
+     *
+     * @param customerId 고객 ID
+     * @param after      이전 페이지의 nextCursor (첫 페이지: null)
+     * @param size       페이지 크기 (최대 order.history.max-page-size)
+     * @return 주문 목록 + 다음 커서 (마지막 페이지면 null)
      */
-    public List<Order> getOrdersByCustomerId(Long customerId) {
-        return orderRepository.findByCustomerId(customerId);
+    public OrderPage getOrdersByCustomerId(Long customerId, Long after, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        Limit limit = Limit.of(pageSize + 1);
+        List<Order> orders = after == null
+                ? orderRepository.findByCustomerIdOrderByIdDesc(customerId, limit)
+                : orderRepository.findByCustomerIdAndIdLessThanOrderByIdDesc(customerId, after, limit);
+
+        if (orders.size() <= pageSize) {
+            return new OrderPage(orders, null);
+        }
+
+        List<Order> page = orders.subList(0, pageSize);
+        return new OrderPage(page, page.get(pageSize - 1).getId());
     }
 
     /**
-     * 주문 상태 변경
+     * 고객별 주문 전체를 한 건씩 전달 (NDJSON 내보내기용)
+     *
+     * <p>DB 결과를 스트리밍하고 처리한 엔티티는 영속성 컨텍스트에서 분리하므로
+     * 주문 수와 무관하게 메모리 사용량이 일정합니다.</p>
+     *
+     * @param customerId 고객 ID
+     * @param consumer   주문 처리 (응답 스트림에 쓰기 등)
+     */
+    public void forEachOrderByCustomerId(Long customerId, Consumer<Order> consumer) {
+        try (Stream<Order> orders = orderRepository.streamByCustomerIdOrderByIdDesc(customerId)) {
+            orders.forEach(order -> {
+                consumer.accept(order);
+                entityManager.detach(order);
+            });
+        }
+    }
+
+    /**
+     * 주문 상태 전이 (조건부 UPDATE 1회)
+     *
+     * <h3>Why?</h3>
+     * <p>조회 → 변경 → flush(@Version 검사)는 두 문장이 필요하고, Saga 재시도가 겹치면
+     * 낙관적 락 충돌이 납니다. WHERE status IN (허용된 이전 상태)로 한 번에 변경하면
+     * DB가 원자적으로 판단하므로 충돌이 없습니다.</p>
+     *
+     * <h3>변경된 행 수로 결과 판단</h3>
+     * <ul>
+     *   <li>1: 전이 성공</li>
+     *   <li>0 + 이미 target 상태: 멱등 성공 (재시도된 요청)</li>
+     *   <li>0 + 주문 없음: ORDER_NOT_FOUND</li>
+     *   <li>0 + 그 외 상태: ORDER_INVALID_STATUS_TRANSITION</li>
+     * </ul>
+     *
+     * <p>전이에 성공하면 상태별 이벤트(OrderConfirmed, OrderCancelled, OrderCompleted)를
+     * 같은 트랜잭션에서 Outbox에 저장하고, 커밋 후 주문 조회 캐시를 무효화합니다.
+     * 멱등 성공(이미 target 상태)은 이벤트를 다시 저장하지 않습니다.</p>
+     *
+     * @param orderId 주문 ID
+     * @param target  변경할 상태
+     * @return 변경 후 주문
      */
     @Transactional
-    public Order updateOrderStatus(Long orderId, OrderStatus newStatus) {
-        Order order = getOrder(orderId);
-        order.updateStatus(newStatus);
+    public Order transitionStatus(Long orderId, OrderStatus target) {
+        Set<OrderStatus> predecessors = target.predecessors();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = predecessors.isEmpty()
+                ? 0
+                : orderRepository.transitionStatus(orderId, target, predecessors, now);
+
+        if (updated == 0) {
+            OrderStatus current = orderRepository.findStatusById(orderId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND.toErrorInfo()));
 
-        log.info("주문 상태 변경: orderId={}, newStatus={}", orderId, newStatus);
+            if (current != target) {
+                log.warn("허용되지 않는 주문 상태 전이: orderId={}, current={}, target={}", orderId, current, target);
+                throw new BusinessException(ErrorCode.ORDER_INVALID_STATUS_TRANSITION.toErrorInfo());
+            }
+
+            log.info("이미 변경된 주문 상태 (멱등 처리): orderId={}, status={}", orderId, target);
+            return getOrder(orderId);
+        }
+
+        Order order = getOrder(orderId);
+        saveStatusChangedEvent(order, now, null);
+        orderReadCache.evictAfterCommit(orderId, order.getVersion());
+        log.info("주문 상태 변경: orderId={}, newStatus={}", orderId, target);
         return order;
     }
 
+    /**
+     * 오래된 PENDING 주문 취소 (StalePendingOrderReaper용)
+     *
+     * <p>{@link #transitionStatus}와 같은 조건부 UPDATE지만 허용된 이전 상태를 PENDING으로 한정합니다.
+     * 대상 ID를 조회한 뒤 Saga가 주문을 확정했거나 다른 인스턴스가 먼저 취소했다면
+     * 0행이 변경되고 아무것도 하지 않습니다 (CONFIRMED 주문을 취소하지 않음).</p>
+     *
+     * @param orderId 주문 ID
+     * @return 이번 호출로 취소했으면 true
+     */
+    @Transactional
+    public boolean cancelStalePendingOrder(Long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = orderRepository.transitionStatus(
+                orderId, OrderStatus.CANCELLED, Set.of(OrderStatus.PENDING), now);
+        if (updated == 0) {
+            return false;
+        }
+
+        Order order = getOrder(orderId);
+        saveStatusChangedEvent(order, now, CANCEL_REASON_PENDING_TIMEOUT);
+        orderReadCache.evictAfterCommit(orderId, order.getVersion());
+        log.info("오래된 PENDING 주문 취소: orderId={}, createdAt={}", orderId, order.getCreatedAt());
+        return true;
+    }
+
+    /**
+     * 상태 전이 Outbox 이벤트 저장 (전이와 같은 트랜잭션)
+     *
+     * @param order      전이된 주문
+     * @param occurredAt 전이 시각 (orders.updated_at과 같은 값 → 조회 모델이 순서 판단에 사용)
+     * @param reason     취소 사유 (OrderCancelled에만 기록, 없으면 null)
+     */
+    private void saveStatusChangedEvent(Order order, LocalDateTime occurredAt, String reason) {
+        String status = order.getStatus().name();
+        Object event = switch (order.getStatus()) {
+            case CONFIRMED -> OrderConfirmedEvent.builder()
+                    .orderId(order.getId())
+                    .orderNumber(order.getOrderNumber())
+                    .customerId(order.getCustomerId())
+                    .totalAmount(order.getTotalAmount())
+                    .status(status)
+                    .occurredAt(occurredAt)
+                    .build();
+            case CANCELLED -> OrderCancelledEvent.builder()
+                    .orderId(order.getId())
+                    .orderNumber(order.getOrderNumber())
+                    .customerId(order.getCustomerId())
+                    .totalAmount(order.getTotalAmount())
+                    .status(status)
+                    .occurredAt(occurredAt)
+                    .reason(reason)
+                    .build();
+            case COMPLETED -> OrderCompletedEvent.builder()
+                    .orderId(order.getId())
+                    .orderNumber(order.getOrderNumber())
+                    .customerId(order.getCustomerId())
+                    .totalAmount(order.getTotalAmount())
+                    .status(status)
+                    .occurredAt(occurredAt)
+                    .build();
+            case PENDING -> throw new IllegalStateException("PENDING is not a transition target");
+        };
+
+        outboxService.save(
+                "Order",
+                order.getOrderNumber(),
+                statusChangedEventType(order.getStatus()),
+                event
+        );
+    }
+
+    private static String statusChangedEventType(OrderStatus status) {
+        return switch (status) {
+            case CONFIRMED -> "OrderConfirmed";
+            case CANCELLED -> "OrderCancelled";
+            case COMPLETED -> "OrderCompleted";
+            case PENDING -> throw new IllegalStateException("PENDING is not a transition target");
+        };
+    }
+
     /**
      * 주문 확정 (결제 완료 후)
      */
     @Transactional
     public Order confirmOrder(Long orderId) {
-        return updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+        return transitionStatus(orderId, OrderStatus.CONFIRMED);
     }
 
     /**
@@ -120,10 +423,34 @@ public class OrderService {
      */
     @Transactional
     public Order cancelOrder(Long orderId) {
-        return updateOrderStatus(orderId, OrderStatus.CANCELLED);
+        return transitionStatus(orderId, OrderStatus.CANCELLED);
     }
 
     private String generateOrderNumber() {
-        return "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.nextKey("ORD-");
+    }
+
+    /**
+     * 고객별 주문 목록 페이지
+     *
+     * @param orders     주문 목록 (최신순)
+     * @param nextCursor 다음 페이지 요청 시 after 값 (마지막 페이지면 null)
+     */
+    public record OrderPage(List<Order> orders, Long nextCursor) {
+    }
+
+    /**
+     * 일괄 생성할 주문
+     *
+     * @param customerId 고객 ID
+     * @param items      주문 상품 (없으면 빈 주문)
+     */
+    public record NewOrder(Long customerId, List<NewOrderItem> items) {
+    }
+
+    /**
+     * 일괄 생성할 주문 상품
+     */
+    public record NewOrderItem(Long productId, String productName, Integer quantity, BigDecimal unitPrice) {
     }
 }
@@ -0,0 +1,31 @@
+package com.hanumoka.order.service;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 커밋 알림 (즉시 발행 등)
+ *
+ * <p>{@link OutboxService#save}가 트랜잭션 커밋 직후(afterCommit) 그 트랜잭션에서 저장된 이벤트를 넘깁니다.
+ * 서비스 계층은 이 인터페이스에만 의존하고, 구현(publisher.OutboxImmediateDispatcher)은 Bean으로 등록될 때만 호출됩니다.</p>
+ *
+ * <p>요청 스레드에서 호출되므로 구현은 오래 걸리는 작업을 하지 않아야 합니다.
+ * 알림을 놓친 이벤트는 PENDING으로 남아 Polling Publisher가 발행합니다.</p>
+ *
+ * <p>커밋까지 트랜잭션에 보관되므로 페이로드 없이 ID와 aggregateId만 넘깁니다.</p>
+ */
+public interface OutboxCommitListener {
+
+    /**
+     * @param events 커밋된 이벤트 목록 (저장 순서)
+     */
+    void onCommitted(List<CommittedEvent> events);
+
+    /**
+     * 커밋된 이벤트 식별 정보
+     *
+     * @param id          Outbox 이벤트 ID
+     * @param aggregateId 파티션 계산용 aggregate ID
+     */
+    record CommittedEvent(Long id, String aggregateId) {
+    }
+}
@@ -0,0 +1,311 @@
+package com.hanumoka.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox 테이블 보관 기간 관리 (파티션 DROP / 청크 DELETE)
+ *
+ * <h3>Why?</h3>
+ * <p>한 번의 DELETE로 PUBLISHED 이벤트를 지우면 긴 트랜잭션이 되어
+ * InnoDB purge lag과 복제 지연이 생깁니다.</p>
+ *
+ * <h3>동작 방식 (테이블 상태를 INFORMATION_SCHEMA에서 자동 감지)</h3>
+ * <ul>
+ *   <li>파티션 테이블 (db/partitioning 마이그레이션 적용):
+ *     <ol>
+ *       <li>p_max를 REORGANIZE하여 앞으로 {@value #PARTITION_DAYS_AHEAD}일치 일 단위 파티션 미리 생성</li>
+ *       <li>보관 기간이 지난 파티션 중 정리 가능한 것만 DROP PARTITION</li>
+ *     </ol>
+ *   </li>
+ *   <li>일반 테이블: {@value #DELETE_CHUNK_SIZE}개씩 청크 DELETE (청크마다 별도 트랜잭션)</li>
+ *   <li>보관 테이블(outbox_event_archive): 위와 같이 파티션 DROP (db/partitioning V9.1), 아니면 청크 DELETE</li>
+ * </ul>
+ *
+ * <p>발행 완료 이벤트는 OutboxArchiver가 곧바로 보관 테이블로 옮기므로,
+ * 파티션 설치에서는 보관 테이블까지 파티션이어야 PUBLISHED 이벤트 정리가 DELETE 없이 끝납니다.</p>
+ *
+ * <h3>파티션 DROP 조건</h3>
+ * <ul>
+ *   <li>outbox_event: 파티션 내 모든 이벤트가 PUBLISHED (PENDING/FAILED가 남아있으면 보류)</li>
+ *   <li>outbox_dead_letter: 파티션 내 모든 DLQ가 resolved</li>
+ *   <li>outbox_event_archive: 조건 없음 (모두 발행 완료 이벤트)</li>
+ * </ul>
+ *
+ * <h3>파티션 규칙</h3>
+ * <pre>
+ * p20261017 VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-18 00:00:00'))  ← 2026-10-17 생성분
+ * p_max     VALUES LESS THAN MAXVALUE                                ← 미리 만든 범위 밖 (보통 비어 있음)
+ * </pre>
+ *
+ * <p>파티션 함수 UNIX_TIMESTAMP(created_at)는 MySQL 세션 시간대로 계산되므로
+ * 날짜 ↔ 경계값 변환도 JVM 시간대가 아닌 MySQL에서 합니다 (UNIX_TIMESTAMP / FROM_UNIXTIME).
+ * 두 시간대가 달라도 파티션은 created_at의 날짜(00:00:00)에 정확히 맞춰집니다.</p>
+ *
+ * <p>ALTER TABLE은 인스턴스 간 중복 실행되면 실패하므로 Redisson 락을 얻은 인스턴스만 실행합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRetentionManager {
+
+    private static final String LOCK_KEY = "lock:outbox-retention";
+
+    private static final String OUTBOX_TABLE = "outbox_event";
+    private static final String DLQ_TABLE = "outbox_dead_letter";
+    private static final String ARCHIVE_TABLE = "outbox_event_archive";
+
+    private static final String MAX_PARTITION = "p_max";
+    private static final String MAXVALUE = "MAXVALUE";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter DAY_START_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd' 00:00:00'");
+
+    /**
+     * 미리 생성할 파티션 일수
+     */
+    private static final int PARTITION_DAYS_AHEAD = 3;
+
+    /**
+     * 비파티션 테이블 청크 삭제 크기
+     */
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxService outboxService;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 기동 시 미래 파티션 생성 (파티션 테이블인 경우만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        runWithLock(() -> {
+            ensureFuturePartitions(OUTBOX_TABLE);
+            ensureFuturePartitions(DLQ_TABLE);
+            ensureFuturePartitions(ARCHIVE_TABLE);
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 정리 (정리 스케줄러용)
+     *
+     * @param daysToKeep    PUBLISHED 이벤트 보관 기간 (일)
+     * @param dlqDaysToKeep 해결된 DLQ 보관 기간 (일, 파티션 테이블에서만 적용)
+     */
+    public void cleanup(int daysToKeep, int dlqDaysToKeep) {
+        runWithLock(() -> {
+            if (isPartitioned(OUTBOX_TABLE)) {
+                ensureFuturePartitions(OUTBOX_TABLE);
+                int dropped = dropExpiredPartitions(OUTBOX_TABLE, daysToKeep, "status <> 'PUBLISHED'");
+                log.info("Outbox 파티션 정리 완료: {}개 파티션 DROP ({}일 이전)", dropped, daysToKeep);
+            } else {
+                int deleted = deletePublishedInChunks(daysToKeep);
+                log.info("Outbox 이벤트 정리 완료: {}개 삭제 ({}일 이전)", deleted, daysToKeep);
+            }
+
+            if (isPartitioned(ARCHIVE_TABLE)) {
+                ensureFuturePartitions(ARCHIVE_TABLE);
+                int dropped = dropExpiredPartitions(ARCHIVE_TABLE, daysToKeep, null);
+                log.info("Outbox 보관 파티션 정리 완료: {}개 파티션 DROP ({}일 이전)", dropped, daysToKeep);
+            } else {
+                int archivedDeleted = deleteArchivedInChunks(daysToKeep);
+                if (archivedDeleted > 0) {
+                    log.info("Outbox 보관 이벤트 정리 완료: {}개 삭제 ({}일 이전)", archivedDeleted, daysToKeep);
+                }
+            }
+
+            if (isPartitioned(DLQ_TABLE)) {
+                ensureFuturePartitions(DLQ_TABLE);
+                int dropped = dropExpiredPartitions(DLQ_TABLE, dlqDaysToKeep, "resolved = FALSE");
+                log.info("DLQ 파티션 정리 완료: {}개 파티션 DROP ({}일 이전)", dropped, dlqDaysToKeep);
+            }
+        });
+    }
+
+    private void runWithLock(Runnable task) {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        boolean isLocked = false;
+
+        try {
+            isLocked = lock.tryLock();
+
+            if (!isLocked) {
+                log.debug("[OutboxRetention] 다른 인스턴스가 실행 중");
+                return;
+            }
+
+            task.run();
+        } catch (Exception e) {
+            log.error("Outbox 보관 기간 관리 실패", e);
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 비파티션 테이블: 청크 단위 삭제 (청크마다 트랜잭션 분리 → 짧은 락, 작은 undo)
+     */
+    private int deletePublishedInChunks(int daysToKeep) {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(daysToKeep);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = outboxService.deletePublishedChunk(threshold, DELETE_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        return total;
+    }
+
+    /**
+     * 보관 테이블(outbox_event_archive): 청크 단위 삭제
+     */
+    private int deleteArchivedInChunks(int daysToKeep) {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(daysToKeep);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = outboxService.deleteArchivedChunk(threshold, DELETE_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        return total;
+    }
+
+    /**
+     * p_max를 REORGANIZE하여 오늘 ~ 오늘+N일 파티션 생성
+     *
+     * <p>p_max는 미리 만든 범위 밖의 데이터만 담으므로 보통 비어 있어 REORGANIZE 비용이 작습니다.
+     * (최초 실행 시에는 기존 데이터가 첫 파티션으로 한 번 복사됩니다.)</p>
+     */
+    private void ensureFuturePartitions(String table) {
+        List<PartitionInfo> partitions = findPartitions(table);
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate nextDay = partitions.stream()
+                .filter(p -> !p.isMax())
+                .map(p -> toDay(p.lessThan()))
+                .max(LocalDate::compareTo)
+                .map(lastExclusive -> lastExclusive.isAfter(today) ? lastExclusive : today)
+                .orElse(today);
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate day = nextDay; !day.isAfter(today.plusDays(PARTITION_DAYS_AHEAD)); day = day.plusDays(1)) {
+            definitions.add("PARTITION " + day.format(PARTITION_NAME_FORMAT)
+                    + " VALUES LESS THAN (" + toEpochSecond(day.plusDays(1)) + ")");
+        }
+
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN " + MAXVALUE);
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+
+        log.info("{} 파티션 {}개 생성 ({} ~ {})", table, definitions.size() - 1,
+                nextDay, today.plusDays(PARTITION_DAYS_AHEAD));
+    }
+
+    /**
+     * 보관 기간이 지난 파티션 DROP
+     *
+     * @param table      테이블명
+     * @param daysToKeep 보관 기간 (일)
+     * @param blocker    이 조건에 맞는 row가 남아있으면 DROP 보류 (null: 조건 없이 DROP)
+     * @return DROP된 파티션 수
+     */
+    private int dropExpiredPartitions(String table, int daysToKeep, String blocker) {
+        long expiredBefore = toEpochSecond(LocalDate.now().minusDays(daysToKeep));
+        int dropped = 0;
+
+        for (PartitionInfo partition : findPartitions(table)) {
+            if (partition.isMax() || partition.lessThan() > expiredBefore) {
+                continue;
+            }
+
+            boolean blocked = blocker != null && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + table + " PARTITION (" + partition.name() + ") WHERE "
+                            + blocker + ")", Boolean.class));
+
+            if (blocked) {
+                log.warn("{} 파티션 DROP 보류 (미처리 데이터 존재): {}", table, partition.name());
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+            log.info("{} 파티션 DROP: {}", table, partition.name());
+            dropped++;
+        }
+
+        return dropped;
+    }
+
+    private boolean isPartitioned(String table) {
+        return !findPartitions(table).isEmpty();
+    }
+
+    /**
+     * 파티션 목록 조회 (비파티션 테이블이면 빈 목록)
+     */
+    private List<PartitionInfo> findPartitions(String table) {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM INFORMATION_SCHEMA.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> {
+                    String description = rs.getString("PARTITION_DESCRIPTION");
+                    boolean isMax = MAXVALUE.equalsIgnoreCase(description);
+                    return new PartitionInfo(rs.getString("PARTITION_NAME"), isMax,
+                            isMax ? Long.MAX_VALUE : Long.parseLong(description));
+                },
+                table);
+    }
+
+    /**
+     * 날짜 00:00:00의 파티션 경계값 (파티션 함수와 같은 MySQL 세션 시간대)
+     */
+    private long toEpochSecond(LocalDate day) {
+        Long epochSecond = jdbcTemplate.queryForObject(
+                "SELECT UNIX_TIMESTAMP(?)", Long.class, day.format(DAY_START_FORMAT));
+        if (epochSecond == null) {
+            throw new IllegalStateException("UNIX_TIMESTAMP returned null for " + day);
+        }
+        return epochSecond;
+    }
+
+    /**
+     * 파티션 경계값 → 날짜 (MySQL 세션 시간대)
+     */
+    private LocalDate toDay(long epochSecond) {
+        return LocalDate.parse(jdbcTemplate.queryForObject(
+                "SELECT DATE_FORMAT(FROM_UNIXTIME(?), '%Y-%m-%d')", String.class, epochSecond));
+    }
+
+    /**
+     * 파티션 정보
+     *
+     * @param name     파티션명
+     * @param isMax    MAXVALUE 파티션 여부
+     * @param lessThan 상한 (UNIX_TIMESTAMP, 미포함)
+     */
+    private record PartitionInfo(String name, boolean isMax, long lessThan) {
+    }
+}
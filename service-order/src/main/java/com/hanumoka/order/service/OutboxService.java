@@ -4,17 +4,25 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanumoka.order.entity.OutboxEvent;
 import com.hanumoka.order.entity.OutboxStatus;
-import com.hanumoka.order.entity.OutboxDeadLetter;
 import com.hanumoka.order.repository.OutboxDeadLetterRepository;
 import com.hanumoka.order.repository.OutboxEventRepository;
+import com.hanumoka.order.service.OutboxCommitListener.CommittedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Outbox 이벤트 서비스
@@ -37,6 +45,17 @@ import java.util.List;
  *   <li>커밋되면 둘 다 성공, 롤백되면 둘 다 실패 → 원자성</li>
  *   <li>별도 Publisher가 Outbox 테이블을 Polling하여 발행</li>
  * </ul>
+ *
+ * <h3>즉시 발행 (opt-in)</h3>
+ * <p>outbox.dispatch.immediate.enabled=true이면 커밋 직후(afterCommit)
+ * 저장된 이벤트를 {@link OutboxCommitListener}(즉시 발행 Dispatcher)에 넘겨 즉시 발행합니다.
+ * 누락분(커밋 후 발행 전 장애 등)은 기존 Polling Publisher가 처리합니다.</p>
+ *
+ * <h3>claim 전략 (outbox.publisher.claim-strategy)</h3>
+ * <ul>
+ *   <li>skip-locked (기본): SELECT ... FOR UPDATE SKIP LOCKED → 엔티티 상태 변경 → 커밋</li>
+ *   <li>claim-token: UPDATE ... LIMIT 한 문장으로 PROCESSING + claim_token 기록 → token으로 조회</li>
+ * </ul>
  */
 @Service
 @RequiredArgsConstructor
@@ -46,6 +65,31 @@ public class OutboxService {
     private final OutboxEventRepository outboxRepository;
     private final OutboxDeadLetterRepository deadLetterRepository;
     private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxCommitListener> commitListenerProvider;
+
+    /**
+     * 트랜잭션별 즉시 발행 대상 이벤트 목록 리소스 키
+     */
+    private static final Object IMMEDIATE_DISPATCH_RESOURCE = new Object();
+
+    /**
+     * 즉시 발행 한도를 넘은 트랜잭션 표시 (이후 이벤트는 모으지 않음)
+     */
+    private static final List<CommittedEvent> OVERFLOWED = List.of();
+
+    private static final String CLAIM_STRATEGY_TOKEN = "claim-token";
+
+    /**
+     * claim 전략 (skip-locked | claim-token)
+     */
+    @Value("${outbox.publisher.claim-strategy:skip-locked}")
+    private String claimStrategy;
+
+    /**
+     * 한 트랜잭션에서 즉시 발행으로 넘길 최대 이벤트 수 (초과하면 그 트랜잭션 전체를 Polling에 맡김)
+     */
+    @Value("${outbox.dispatch.immediate.max-events-per-transaction:500}")
+    private int maxImmediateEventsPerTransaction;
 
     /**
      * Outbox 이벤트 저장
@@ -75,6 +119,8 @@ public class OutboxService {
             log.debug("Outbox 이벤트 저장: type={}, aggregateId={}, eventType={}",
                     aggregateType, aggregateId, eventType);
 
+            registerImmediateDispatch(saved);
+
             return saved;
 
         } catch (JsonProcessingException e) {
@@ -83,6 +129,61 @@ public class OutboxService {
         }
     }
 
+    /**
+     * 커밋 후 즉시 발행 등록
+     *
+     * <p>트랜잭션당 TransactionSynchronization을 하나만 등록하고,
+     * 같은 트랜잭션에서 저장된 이벤트의 ID를 모아 afterCommit에 한 번에 넘깁니다.
+     * 롤백되면 afterCommit이 호출되지 않으므로 발행되지 않습니다.</p>
+     *
+     * <p>엔티티(페이로드 포함) 대신 ID만 보관하므로 일괄 주문 생성의 flush/clear 후에도 이벤트가 힙에 남지 않습니다.
+     * 이벤트가 max-events-per-transaction을 넘으면 목록을 비우고 더 모으지 않으며, 그 트랜잭션의 이벤트는 Polling이 발행합니다.</p>
+     *
+     * @param event 저장된 이벤트
+     */
+    private void registerImmediateDispatch(OutboxEvent event) {
+        OutboxCommitListener listener = commitListenerProvider.getIfAvailable();
+        if (listener == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<CommittedEvent> events = (List<CommittedEvent>) TransactionSynchronizationManager.getResource(IMMEDIATE_DISPATCH_RESOURCE);
+
+        if (events == null) {
+            List<CommittedEvent> collected = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(IMMEDIATE_DISPATCH_RESOURCE, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    if (!collected.isEmpty()) {
+                        listener.onCommitted(collected);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(IMMEDIATE_DISPATCH_RESOURCE);
+                }
+            });
+            events = collected;
+        }
+
+        if (events == OVERFLOWED) {
+            return;
+        }
+        if (events.size() >= maxImmediateEventsPerTransaction) {
+            // 대량 저장 (일괄 주문 생성 등) → 즉시 발행 포기, Polling이 순서대로 발행
+            events.clear();
+            TransactionSynchronizationManager.unbindResource(IMMEDIATE_DISPATCH_RESOURCE);
+            TransactionSynchronizationManager.bindResource(IMMEDIATE_DISPATCH_RESOURCE, OVERFLOWED);
+            log.debug("트랜잭션 이벤트가 {}개를 넘어 즉시 발행 생략 → Polling으로 위임", maxImmediateEventsPerTransaction);
+            return;
+        }
+
+        events.add(new CommittedEvent(event.getId(), event.getAggregateId()));
+    }
+
     /**
      * PENDING 이벤트를 조회하고 PROCESSING으로 변경 (Polling Publisher용)
      *
@@ -96,17 +197,27 @@ public class OutboxService {
      * <p>락이 해제된 후에도 상태가 PROCESSING이므로
      * 다른 인스턴스의 폴링 쿼리(WHERE status='PENDING')에 걸리지 않습니다.</p>
      *
+     * <p>claim-token 전략이면 {@link OutboxEventRepository#claimPendingWithToken}
+     * 한 문장으로 claim 후 token으로 조회합니다.</p>
+     *
      * @param limit 최대 조회 수
      * @return 처리를 위해 claim된 이벤트 목록 (상태: PROCESSING)
      */
     @Transactional
     public List<OutboxEvent> claimPendingEvents(int limit) {
-        List<OutboxEvent> events = outboxRepository.findPendingEventsForUpdate(
-                PageRequest.of(0, limit));
+        List<OutboxEvent> events;
 
-        // 같은 트랜잭션 내에서 PROCESSING으로 변경
-        for (OutboxEvent event : events) {
-            event.markAsProcessing();
+        if (isTokenClaim()) {
+            String claimToken = newClaimToken();
+            int claimed = outboxRepository.claimPendingWithToken(claimToken, LocalDateTime.now(), limit);
+            events = readClaimed(claimToken, claimed);
+        } else {
+            events = outboxRepository.findPendingEventsForUpdate(PageRequest.of(0, limit));
+
+            // 같은 트랜잭션 내에서 PROCESSING으로 변경
+            for (OutboxEvent event : events) {
+                event.markAsProcessing();
+            }
         }
 
         if (!events.isEmpty()) {
@@ -116,6 +227,94 @@ public class OutboxService {
         return events;
     }
 
+    /**
+     * 파티션의 PENDING 이벤트를 조회하고 PROCESSING으로 변경 (파티션 워커용)
+     *
+     * @param limit      최대 조회 수
+     * @param partition  파티션 번호
+     * @param partitions 전체 파티션 수
+     * @return claim된 이벤트 목록 (상태: PROCESSING)
+     * @see #claimPendingEvents(int)
+     */
+    @Transactional
+    public List<OutboxEvent> claimPendingEvents(int limit, int partition, int partitions) {
+        List<OutboxEvent> events;
+
+        if (isTokenClaim()) {
+            String claimToken = newClaimToken();
+            int claimed = outboxRepository.claimPendingInPartitionWithToken(
+                    claimToken, LocalDateTime.now(), partition, partitions, limit);
+            events = readClaimed(claimToken, claimed);
+        } else {
+            events = outboxRepository.findPendingEventsInPartitionForUpdate(partition, partitions, limit);
+            for (OutboxEvent event : events) {
+                event.markAsProcessing();
+            }
+        }
+
+        if (!events.isEmpty()) {
+            log.debug("Outbox 이벤트 {}개 claim 완료 (partition={}/{})", events.size(), partition, partitions);
+        }
+
+        return events;
+    }
+
+    /**
+     * 지정한 ID 중 PENDING 이벤트를 PROCESSING으로 변경 (즉시 발행용)
+     *
+     * <p>{@link #claimPendingEvents(int)}와 같은 방식(FOR UPDATE SKIP LOCKED + 같은 트랜잭션 내 상태 변경)으로,
+     * Poller와 즉시 발행이 같은 이벤트를 중복 발행하지 않습니다.</p>
+     *
+     * <p>같은 aggregate에 아직 발행되지 않은 이전 이벤트(재시도 대기 중인 FAILED 포함)가 있으면 claim하지 않습니다
+     * ({@link OutboxEventRepository#findPendingIdsWithoutOlderUnpublished}).
+     * 그 이벤트는 PENDING으로 남아 Polling이 순서대로 발행합니다.</p>
+     *
+     * @param eventIds 이벤트 ID 목록
+     * @return claim된 이벤트 목록 (상태: PROCESSING)
+     */
+    @Transactional
+    public List<OutboxEvent> claimEventsByIds(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> claimableIds = outboxRepository.findPendingIdsWithoutOlderUnpublished(eventIds);
+        if (claimableIds.isEmpty()) {
+            return List.of();
+        }
+
+        if (isTokenClaim()) {
+            String claimToken = newClaimToken();
+            int claimed = outboxRepository.claimPendingByIdsWithToken(claimToken, LocalDateTime.now(), claimableIds);
+            return readClaimed(claimToken, claimed);
+        }
+
+        List<OutboxEvent> events = outboxRepository.findPendingEventsByIdsForUpdate(claimableIds);
+        for (OutboxEvent event : events) {
+            event.markAsProcessing();
+        }
+
+        return events;
+    }
+
+    private boolean isTokenClaim() {
+        return CLAIM_STRATEGY_TOKEN.equalsIgnoreCase(claimStrategy);
+    }
+
+    private String newClaimToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * claim_token으로 claim된 이벤트 조회 (claim된 row가 없으면 조회 생략)
+     */
+    private List<OutboxEvent> readClaimed(String claimToken, int claimed) {
+        if (claimed == 0) {
+            return List.of();
+        }
+        return outboxRepository.findByClaimTokenOrderByCreatedAtAsc(claimToken);
+    }
+
     /**
      * @deprecated Use {@link #claimPendingEvents(int)} instead.
      * 이 메서드는 트랜잭션 경계 문제가 있습니다.
@@ -141,31 +340,74 @@ public class OutboxService {
     /**
      * 발행 성공 처리
      *
+     * <p>{@link #markAllAsPublished(List)}의 단건 버전 (SELECT 없이 UPDATE 1회)</p>
+     *
      * @param eventId 이벤트 ID
      */
     @Transactional
     public void markAsPublished(Long eventId) {
-        outboxRepository.findById(eventId)
-                .ifPresent(event -> {
-                    event.markAsPublished();
-                    log.debug("Outbox 이벤트 발행 완료: id={}", eventId);
-                });
+        markAllAsPublished(List.of(eventId));
     }
 
     /**
      * 발행 실패 처리
      *
+     * <p>{@link #markAllAsFailed(Map)}의 단건 버전 (SELECT 없이 UPDATE 1회)</p>
+     *
      * @param eventId 이벤트 ID
      * @param error   에러 메시지
      */
     @Transactional
     public void markAsFailed(Long eventId, String error) {
-        outboxRepository.findById(eventId)
-                .ifPresent(event -> {
-                    event.markAsFailed(error);
-                    log.warn("Outbox 이벤트 발행 실패: id={}, error={}, retryCount={}",
-                            eventId, error, event.getRetryCount());
-                });
+        markAllAsFailed(Map.of(eventId, String.valueOf(error)));
+    }
+
+    /**
+     * 발행 성공 일괄 처리 (배치 발행용)
+     *
+     * <p>단일 UPDATE ... WHERE id IN (...)으로 처리합니다.</p>
+     *
+     * @param eventIds 발행 성공한 이벤트 ID 목록
+     * @return PUBLISHED로 변경된 이벤트 수
+     */
+    @Transactional
+    public int markAllAsPublished(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        int updated = outboxRepository.markPublishedByIds(eventIds, LocalDateTime.now());
+        log.debug("Outbox 이벤트 일괄 발행 완료: requested={}, updated={}", eventIds.size(), updated);
+        return updated;
+    }
+
+    /**
+     * 발행 실패 일괄 처리 (배치 발행용)
+     *
+     * <p>에러 메시지가 같은 이벤트끼리 묶어 UPDATE합니다.
+     * 파이프라인 전체 실패(연결 끊김 등)는 메시지가 하나이므로 단일 UPDATE로 끝납니다.</p>
+     *
+     * @param errorsByEventId 이벤트 ID → 에러 메시지
+     * @return FAILED로 변경된 이벤트 수
+     */
+    @Transactional
+    public int markAllAsFailed(Map<Long, String> errorsByEventId) {
+        if (errorsByEventId.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Long>> idsByError = new LinkedHashMap<>();
+        errorsByEventId.forEach((eventId, error) ->
+                idsByError.computeIfAbsent(String.valueOf(error), k -> new ArrayList<>()).add(eventId));
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<String, List<Long>> entry : idsByError.entrySet()) {
+            updated += outboxRepository.markFailedByIds(entry.getValue(), entry.getKey(), now);
+        }
+
+        log.warn("Outbox 이벤트 일괄 발행 실패 처리: requested={}, updated={}, distinctErrors={}",
+                errorsByEventId.size(), updated, idsByError.size());
+        return updated;
     }
 
     /**
@@ -175,11 +417,43 @@ public class OutboxService {
      */
     @Transactional
     public void markForRetry(Long eventId) {
-        outboxRepository.findById(eventId)
-                .ifPresent(event -> {
-                    event.markForRetry();
-                    log.info("Outbox 이벤트 재시도 예약: id={}, retryCount={}", eventId, event.getRetryCount());
-                });
+        markAllForRetry(List.of(eventId));
+    }
+
+    /**
+     * 재시도를 위해 PENDING 상태로 일괄 변경 (FAILED → PENDING)
+     *
+     * @param eventIds 이벤트 ID 목록
+     * @return 변경된 이벤트 수
+     */
+    @Transactional
+    public int markAllForRetry(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        int updated = outboxRepository.markForRetryByIds(eventIds);
+        log.info("Outbox 이벤트 재시도 예약: requested={}, updated={}", eventIds.size(), updated);
+        return updated;
+    }
+
+    /**
+     * 재시도 시간이 도래한 FAILED 이벤트를 PENDING으로 일괄 변경
+     *
+     * <p>실패 시점에 저장한 next_retry_at(지수 백오프 + 지터)이 지난 이벤트만 대상입니다.
+     * 아직 때가 되지 않은 이벤트는 읽지도, 잠그지도 않습니다.</p>
+     *
+     * @param maxRetryCount 최대 재시도 횟수 (이 값 미만인 것만)
+     * @param limit         최대 처리 수
+     * @return 재시도 예약된 이벤트 수
+     */
+    @Transactional
+    public int scheduleRetries(int maxRetryCount, int limit) {
+        int scheduled = outboxRepository.markDueForRetry(LocalDateTime.now(), maxRetryCount, limit);
+
+        if (scheduled > 0) {
+            log.info("Outbox 이벤트 재시도 예약: {}개", scheduled);
+        }
+        return scheduled;
     }
 
     /**
@@ -188,6 +462,8 @@ public class OutboxService {
      * <p>Publisher가 비정상 종료되면 PROCESSING 상태로 남아있는 이벤트가 발생합니다.
      * 일정 시간이 지난 PROCESSING 이벤트를 PENDING으로 복구하여 재처리합니다.</p>
      *
+     * <p>PROCESSING → PENDING where processed_at &lt; threshold 를 단일 UPDATE로 처리합니다.</p>
+     *
      * @param timeoutMinutes 타임아웃 시간 (분)
      * @param limit          최대 복구 수
      * @return 복구된 이벤트 수
@@ -195,32 +471,67 @@ public class OutboxService {
     @Transactional
     public int recoverTimedOutEvents(int timeoutMinutes, int limit) {
         LocalDateTime threshold = LocalDateTime.now().minusMinutes(timeoutMinutes);
-        List<OutboxEvent> timedOutEvents = outboxRepository.findTimedOutProcessingEvents(
-                threshold, PageRequest.of(0, limit));
+        int recovered = outboxRepository.recoverTimedOutProcessing(threshold, limit);
 
-        for (OutboxEvent event : timedOutEvents) {
-            event.markAsTimedOut();
-            log.warn("Outbox 이벤트 타임아웃 복구: id={}, processedAt={}, eventType={}",
-                    event.getId(), event.getProcessedAt(), event.getEventType());
+        if (recovered > 0) {
+            log.warn("Outbox 이벤트 타임아웃 복구: {}개 (processedAt < {})", recovered, threshold);
         }
-
-        return timedOutEvents.size();
+        return recovered;
     }
 
     /**
-     * 오래된 발행 완료 이벤트 삭제 (정리 스케줄러용)
+     * 오래된 발행 완료 이벤트 삭제 (청크 1개, 비파티션 테이블 정리용)
      *
-     * @param daysToKeep 보관 기간 (일)
+     * @param threshold 이 시간 이전에 발행된 이벤트 삭제
+     * @param limit     청크 크기
      * @return 삭제된 이벤트 수
      */
     @Transactional
-    public int cleanupOldEvents(int daysToKeep) {
-        LocalDateTime threshold = LocalDateTime.now().minusDays(daysToKeep);
-        int deleted = outboxRepository.deletePublishedOlderThan(threshold);
-        if (deleted > 0) {
-            log.info("Outbox 이벤트 정리 완료: {}일 이전 {}개 삭제", daysToKeep, deleted);
+    public int deletePublishedChunk(LocalDateTime threshold, int limit) {
+        return outboxRepository.deletePublishedOlderThan(threshold, limit);
+    }
+
+    /**
+     * 발행 완료 이벤트를 보관 테이블로 이동 (청크 1개)
+     *
+     * <ol>
+     *   <li>PUBLISHED 이벤트 ID 조회 + 락 (SKIP LOCKED, 최대 limit개)</li>
+     *   <li>archive=true: INSERT ... SELECT ... WHERE NOT EXISTS로 outbox_event_archive에 복사</li>
+     *   <li>원본 테이블에서 일괄 삭제 (archive=true면 보관 테이블에 있는 것이 확인된 row만)</li>
+     * </ol>
+     *
+     * <p>복사 오류는 예외가 되어 청크가 롤백되므로, 보관되지 않은 이벤트가 삭제되지 않습니다.</p>
+     *
+     * @param limit   청크 크기
+     * @param archive false면 복사 없이 삭제만 (보관 비활성화)
+     * @return outbox_event에서 제거된 이벤트 수
+     */
+    @Transactional
+    public int archivePublishedChunk(int limit, boolean archive) {
+        List<Long> publishedIds = outboxRepository.findPublishedEventIdsForUpdate(limit);
+
+        if (publishedIds.isEmpty()) {
+            return 0;
         }
-        return deleted;
+
+        if (!archive) {
+            return outboxRepository.deletePublishedByIds(publishedIds);
+        }
+
+        outboxRepository.copyToArchive(publishedIds);
+        return outboxRepository.deletePublishedArchived(publishedIds);
+    }
+
+    /**
+     * 보관 기간이 지난 보관 이벤트 삭제 (청크 1개)
+     *
+     * @param threshold 이 시간 이전에 발행된 이벤트 삭제
+     * @param limit     청크 크기
+     * @return 삭제된 이벤트 수
+     */
+    @Transactional
+    public int deleteArchivedChunk(LocalDateTime threshold, int limit) {
+        return outboxRepository.deleteArchivedOlderThan(threshold, limit);
     }
 
     /**
@@ -232,52 +543,67 @@ public class OutboxService {
     }
 
     /**
-     * 최대 재시도 횟수 초과 이벤트를 DLQ로 이동
+     * 최대 재시도 횟수 초과 이벤트를 DLQ로 이동 (청크 1개)
      *
-     * <h3>워크플로우</h3>
+     * <h3>워크플로우 (이벤트 수와 무관하게 3문장)</h3>
      * <ol>
-     *   <li>retryCount >= maxRetryCount인 FAILED 이벤트 조회</li>
-     *   <li>OutboxDeadLetter 테이블에 복사</li>
-     *   <li>원본 OutboxEvent 테이블에서 삭제</li>
+     *   <li>retryCount >= maxRetryCount인 FAILED 이벤트 ID 조회 + 락 (SKIP LOCKED, 최대 limit개)</li>
+     *   <li>INSERT ... SELECT ... WHERE NOT EXISTS로 DLQ에 복사 (이미 있는 original_id는 건너뜀)</li>
+     *   <li>같은 ID 중 DLQ에 있는 것이 확인된 row만 원본 테이블에서 일괄 삭제</li>
      * </ol>
      *
+     * <p>복사 중 오류(잘림, NOT NULL 등)는 경고로 넘어가지 않고 예외가 되어 청크 전체가 롤백됩니다.
+     * 이벤트는 FAILED로 남아 다음 실행에서 다시 시도됩니다.</p>
+     *
      * <h3>Why 같은 트랜잭션?</h3>
-     * <p>DLQ 저장과 원본 삭제가 원자적으로 처리되어야 데이터 손실/중복 방지</p>
+     * <p>DLQ 저장과 원본 삭제가 원자적으로 처리되어야 데이터 손실/중복 방지.
+     * 청크 단위로 트랜잭션을 짧게 유지하므로, 여러 청크는 호출자가 반복 호출합니다.</p>
      *
      * @param maxRetryCount 최대 재시도 횟수
-     * @param limit         최대 처리 수
-     * @return DLQ로 이동된 이벤트 수
+     * @param limit         청크 크기
+     * @return DLQ로 이동된(원본에서 삭제된) 이벤트 수
      */
     @Transactional
     public int moveExhaustedEventsToDlq(int maxRetryCount, int limit) {
-        List<OutboxEvent> exhaustedEvents = outboxRepository.findExhaustedFailedEvents(
-                maxRetryCount, PageRequest.of(0, limit));
+        List<Long> exhaustedIds = outboxRepository.findExhaustedFailedEventIdsForUpdate(maxRetryCount, limit);
 
-        if (exhaustedEvents.isEmpty()) {
+        if (exhaustedIds.isEmpty()) {
             return 0;
         }
 
-        for (OutboxEvent event : exhaustedEvents) {
-            // DLQ에 이미 존재하는지 확인 (중복 방지)
-            if (deadLetterRepository.existsByOriginalId(event.getId())) {
-                log.warn("DLQ에 이미 존재하는 이벤트: id={}", event.getId());
-                outboxRepository.delete(event);
-                continue;
-            }
+        int copied = deadLetterRepository.copyFromOutbox(exhaustedIds, LocalDateTime.now());
+        int deleted = outboxRepository.deleteFailedCopiedToDlq(exhaustedIds);
 
-            // DLQ로 복사
-            OutboxDeadLetter deadLetter = OutboxDeadLetter.from(event);
-            deadLetterRepository.save(deadLetter);
+        if (copied < deleted) {
+            log.warn("DLQ에 이미 존재하는 이벤트 {}개는 원본만 삭제", deleted - copied);
+        }
+        return deleted;
+    }
 
-            log.error("Outbox 이벤트 DLQ 이동: id={}, eventType={}, retryCount={}, lastError={}",
-                    event.getId(), event.getEventType(), event.getRetryCount(), event.getLastError());
+    /**
+     * 가장 오래된 PENDING 이벤트 생성 시간 (메트릭용, index dive)
+     *
+     * @return created_at (PENDING 이벤트가 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime findOldestPendingCreatedAt() {
+        return outboxRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING);
+    }
 
-            // 원본 삭제
-            outboxRepository.delete(event);
-        }
+    /**
+     * PENDING 이벤트 수 (상한까지만, 메트릭용)
+     */
+    @Transactional(readOnly = true)
+    public long countPendingUpTo(int cap) {
+        return outboxRepository.countPendingUpTo(cap);
+    }
 
-        log.warn("Outbox DLQ 이동 완료: {}개 이벤트", exhaustedEvents.size());
-        return exhaustedEvents.size();
+    /**
+     * 미해결 DLQ 수 (상한까지만, 메트릭용)
+     */
+    @Transactional(readOnly = true)
+    public long countUnresolvedDlqUpTo(int cap) {
+        return deadLetterRepository.countUnresolvedUpTo(cap);
     }
 
     /**
@@ -0,0 +1,28 @@
+-- ID 채번 테이블 (Hibernate pooled TableGenerator)
+-- IDENTITY(AUTO_INCREMENT)는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT 배치를 끕니다.
+-- 이 테이블에서 allocationSize(100)개씩 ID 범위를 미리 받아 persist 시점에 ID를 할당하므로
+-- hibernate.jdbc.batch_size + rewriteBatchedStatements로 multi-row INSERT가 가능해집니다.
+
+CREATE TABLE id_sequences
+(
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY COMMENT '채번 대상 (테이블명)',
+    next_val      BIGINT      NOT NULL COMMENT '다음 ID 범위의 상한 (pooled optimizer)'
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='ID 채번 (pooled)';
+
+-- 기존 AUTO_INCREMENT ID와 겹치지 않도록 현재 최대 ID + 여유분(1000 >= allocationSize)으로 시작
+-- pooled optimizer는 처음 읽은 값 V에 대해 (V - allocationSize, V] 범위를 사용합니다.
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'orders', COALESCE(MAX(id), 0) + 1000
+FROM orders;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'order_items', COALESCE(MAX(id), 0) + 1000
+FROM order_items;
+
+-- outbox_event ID는 보관 테이블/DLQ로 이동한 이벤트와도 겹치면 안 됨
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'outbox_event',
+       GREATEST(COALESCE((SELECT MAX(id) FROM outbox_event), 0),
+                COALESCE((SELECT MAX(id) FROM outbox_event_archive), 0),
+                COALESCE((SELECT MAX(original_id) FROM outbox_dead_letter), 0)) + 1000;
@@ -0,0 +1,7 @@
+-- 오래된 PENDING 주문 정리(StalePendingOrderReaper)용 인덱스
+-- WHERE status = 'PENDING' AND created_at < :cutoff ORDER BY created_at, id LIMIT n
+-- → (status, created_at) 범위 스캔 + 보조 인덱스에 포함된 PK(id)로 정렬/ID 조회까지 인덱스만으로 처리
+CREATE INDEX idx_orders_status_created_at ON orders (status, created_at);
+
+-- (status) 단일 인덱스는 위 인덱스의 접두사이므로 제거
+DROP INDEX idx_orders_status ON orders;
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V7: Outbox 이벤트 claim_token 컬럼 추가
+-- ============================================================================
+-- Why?
+--   단일 UPDATE ... LIMIT으로 claim하는 전략(claim-token) 지원
+--   1. UPDATE로 PENDING → PROCESSING 변경 + Poll마다 고유 claim_token 기록
+--   2. claim_token으로 다시 조회 → 방금 claim한 이벤트만 가져옴
+--   3. SELECT ... FOR UPDATE 후 엔티티 변경 방식 대비 락 보유 시간/엔티티 로딩 비용 감소
+-- ============================================================================
+
+ALTER TABLE outbox_event
+    ADD COLUMN claim_token VARCHAR(36) NULL COMMENT 'Poll 단위 claim 식별자 (claim-token 전략)';
+
+CREATE INDEX idx_outbox_claim_token
+    ON outbox_event (claim_token)
+    COMMENT 'claim_token 기준 조회용';
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V8: Outbox 이벤트 next_retry_at 컬럼 추가
+-- ============================================================================
+-- Why?
+--   기존 재시도: FAILED 이벤트를 잠그고 retry_count별 백오프를 매번 다시 계산
+--   1. 아직 때가 되지 않은 이벤트도 매 주기 재조회/락
+--   2. 앞쪽 배치에 밀린 이벤트가 계속 뒤로 밀림 (starvation)
+--   → 실패 시점에 다음 재시도 시간을 저장하고, 도래한 이벤트만 인덱스로 조회
+-- ============================================================================
+
+ALTER TABLE outbox_event
+    ADD COLUMN next_retry_at TIMESTAMP NULL COMMENT '다음 재시도 시간 (FAILED 상태에서만 사용)';
+
+-- 기존 FAILED 이벤트 백필 (지터 없이 2^retry_count 분)
+UPDATE outbox_event
+SET next_retry_at = DATE_ADD(COALESCE(last_failed_at, created_at),
+                             INTERVAL POW(2, LEAST(retry_count, 10)) MINUTE)
+WHERE status = 'FAILED';
+
+CREATE INDEX idx_outbox_status_next_retry
+    ON outbox_event (status, next_retry_at)
+    COMMENT '재시도 도래 이벤트 조회용';
@@ -0,0 +1,27 @@
+-- ============================================================================
+-- V9: Outbox 발행 완료 이벤트 보관 테이블 (hot/cold 분리)
+-- ============================================================================
+-- Why?
+--   PUBLISHED 이벤트가 outbox_event에 7일간 남아있으면
+--   1. idx_outbox_status_created 인덱스와 버퍼 풀에 불필요한 row가 쌓임
+--   2. claim 쿼리가 관련 없는 페이지를 함께 읽음
+--   → 발행 완료 이벤트는 OutboxArchiver가 배치로 이 테이블로 이동
+--   → outbox_event에는 처리 중(PENDING/PROCESSING/FAILED)인 이벤트만 남음
+-- ============================================================================
+
+CREATE TABLE outbox_event_archive (
+    id             BIGINT       NOT NULL PRIMARY KEY COMMENT '원본 outbox_event ID',
+    aggregate_type VARCHAR(100) NOT NULL COMMENT '도메인 타입',
+    aggregate_id   VARCHAR(100) NOT NULL COMMENT '도메인 ID',
+    event_type     VARCHAR(100) NOT NULL COMMENT '이벤트 타입',
+    payload        JSON         NOT NULL COMMENT '이벤트 데이터',
+    created_at     TIMESTAMP    NOT NULL COMMENT '생성일시',
+    published_at   TIMESTAMP    NULL COMMENT '발행일시',
+    retry_count    INT          NOT NULL DEFAULT 0 COMMENT '재시도 횟수',
+    last_error     TEXT         NULL COMMENT '마지막 에러 메시지',
+    last_failed_at TIMESTAMP    NULL COMMENT '마지막 실패 시간',
+    archived_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '보관 이동 시간',
+
+    INDEX idx_outbox_archive_aggregate (aggregate_type, aggregate_id, created_at),
+    INDEX idx_outbox_archive_published (published_at)
+) COMMENT 'Outbox 발행 완료 이벤트 보관 (cold)';
@@ -0,0 +1,51 @@
+-- ============================================================================
+-- V8.1: outbox_event / outbox_dead_letter 일 단위 RANGE 파티셔닝 (선택)
+-- ============================================================================
+-- Why?
+--   PUBLISHED 이벤트 정리를 DELETE로 하면
+--   1. 대량 삭제 → InnoDB purge lag, undo 증가
+--   2. binlog 대량 발생 → 복제 지연
+--   → 일 단위 파티션으로 나누고 보관 기간이 지난 파티션을 DROP PARTITION (메타데이터 작업)
+--
+-- 적용 방법 (opt-in)
+--   spring.flyway.locations: classpath:db/migration,classpath:db/partitioning
+--   이미 V9 이후가 적용된 DB에 나중에 켜려면 spring.flyway.out-of-order: true 필요
+--
+-- 파티션 운영
+--   이 마이그레이션은 p_max(MAXVALUE) 하나만 만들고,
+--   OutboxRetentionManager가 기동 시/매일 p_max를 REORGANIZE하여 일 단위 파티션을 미리 생성
+--
+-- 제약
+--   파티션 테이블의 모든 PK/UNIQUE 키는 파티션 컬럼을 포함해야 함
+--   - outbox_event:       PK (id) → (id, created_at)
+--   - outbox_dead_letter: PK (id) → (id, original_created_at)
+--                         uk_dlq_original_id (original_id) → (original_id, original_created_at)
+--     원본 이벤트의 created_at은 바뀌지 않으므로 original_id 중복 방지는 그대로 유효
+--     (DLQ 복사는 INSERT ... SELECT ... WHERE NOT EXISTS로 이미 옮긴 original_id를 건너뜀)
+-- ============================================================================
+
+-- ----------------------------------------------------------------------------
+-- outbox_event
+-- ----------------------------------------------------------------------------
+ALTER TABLE outbox_event
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE outbox_event
+    PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (
+        PARTITION p_max VALUES LESS THAN MAXVALUE
+    );
+
+-- ----------------------------------------------------------------------------
+-- outbox_dead_letter
+-- ----------------------------------------------------------------------------
+ALTER TABLE outbox_dead_letter
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, original_created_at),
+    DROP INDEX uk_dlq_original_id,
+    ADD CONSTRAINT uk_dlq_original_id UNIQUE (original_id, original_created_at);
+
+ALTER TABLE outbox_dead_letter
+    PARTITION BY RANGE (UNIX_TIMESTAMP(original_created_at)) (
+        PARTITION p_max VALUES LESS THAN MAXVALUE
+    );
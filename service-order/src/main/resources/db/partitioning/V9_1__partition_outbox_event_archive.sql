@@ -0,0 +1,26 @@
+-- ============================================================================
+-- V9.1: outbox_event_archive 일 단위 RANGE 파티셔닝 (선택, V8.1과 함께 적용)
+-- ============================================================================
+-- Why?
+--   V9 이후 발행 완료 이벤트는 outbox_event에서 바로 outbox_event_archive로 이동
+--   → outbox_event 파티션 DROP은 더 이상 PUBLISHED 이벤트를 정리하지 않음
+--   → 보관 테이블도 같은 방식으로 나누어 보관 기간이 지난 파티션을 DROP PARTITION
+--     (청크 DELETE로 돌아가면 V8.1이 없앤 purge lag/복제 지연이 그대로 돌아옴)
+--
+-- 파티션 운영
+--   V8.1과 같이 p_max 하나만 만들고, OutboxRetentionManager가 일 단위 파티션 생성/DROP
+--   파티션 기준은 outbox_event와 같은 created_at (원본 이벤트 생성일)
+--
+-- 제약
+--   PK (id) → (id, created_at)
+--   원본 이벤트의 created_at은 바뀌지 않으므로 id 중복 방지(NOT EXISTS)는 그대로 유효
+-- ============================================================================
+
+ALTER TABLE outbox_event_archive
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE outbox_event_archive
+    PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (
+        PARTITION p_max VALUES LESS THAN MAXVALUE
+    );
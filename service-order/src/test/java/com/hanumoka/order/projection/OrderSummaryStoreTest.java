@@ -0,0 +1,157 @@
+package com.hanumoka.order.projection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 Redis(docker-compose)에서 Lua 반영 스크립트의 last-writer-wins / 순서 뒤바뀜 처리 검증
+ *
+ * <p>요약 키 이름이 고정되어 있으므로 별도 DB 번호({@value #TEST_DATABASE})를 비우고 사용합니다.</p>
+ */
+class OrderSummaryStoreTest {
+
+    private static final int TEST_DATABASE = 15;
+
+    private static final long ORDER_ID = 1L;
+    private static final long CUSTOMER_ID = 100L;
+    private static final long CREATED_AT = 1_000L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private OrderSummaryStore store;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(TEST_DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        flushDb();
+        store = new OrderSummaryStore(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushDb();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("순서대로 도착: 마지막 상태만 목록/건수에 남음")
+    void appliesTransitionsInOrder() {
+        store.apply(created());
+        store.apply(statusChanged("CONFIRMED", CREATED_AT + 1));
+        store.apply(statusChanged("CANCELLED", CREATED_AT + 2));
+
+        assertThat(statusOfOrder()).isEqualTo("CANCELLED");
+        assertThat(idsWithStatus("CANCELLED")).containsExactly(ORDER_ID);
+        assertThat(idsWithStatus("PENDING")).isEmpty();
+        assertThat(idsWithStatus("CONFIRMED")).isEmpty();
+        assertThat(count("CANCELLED")).isEqualTo(1);
+        assertThat(count("PENDING")).isZero();
+        assertThat(count("CONFIRMED")).isZero();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 상태는 무시")
+    void ignoresOlderStatusArrivingLate() {
+        store.apply(created());
+        store.apply(statusChanged("CANCELLED", CREATED_AT + 2));
+        store.apply(statusChanged("CONFIRMED", CREATED_AT + 1));
+
+        assertThat(statusOfOrder()).isEqualTo("CANCELLED");
+        assertThat(idsWithStatus("CONFIRMED")).isEmpty();
+        assertThat(count("CANCELLED")).isEqualTo(1);
+        assertThat(count("CONFIRMED")).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 변경이 생성보다 먼저 와도 생성 후 한 번만 목록에 포함")
+    void statusChangeBeforeCreation() {
+        store.apply(statusChanged("CONFIRMED", CREATED_AT + 1));
+
+        assertThat(store.findByCustomerId(CUSTOMER_ID, 0, 10)).isEmpty();
+        assertThat(store.countByStatus()).isEmpty();
+
+        store.apply(created());
+
+        List<OrderSummary> byCustomer = store.findByCustomerId(CUSTOMER_ID, 0, 10);
+        assertThat(byCustomer).singleElement().satisfies(summary -> {
+            assertThat(summary.status()).isEqualTo("CONFIRMED");
+            assertThat(summary.orderNumber()).isEqualTo("ORD-1");
+            assertThat(summary.createdAt()).isEqualTo(CREATED_AT);
+            assertThat(summary.updatedAt()).isEqualTo(CREATED_AT + 1);
+        });
+        assertThat(idsWithStatus("PENDING")).isEmpty();
+        assertThat(count("CONFIRMED")).isEqualTo(1);
+        assertThat(count("PENDING")).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 이벤트를 여러 번 반영해도 건수는 한 번만 증가")
+    void reapplyingIsIdempotent() {
+        store.apply(created());
+        store.apply(created());
+        store.apply(statusChanged("CONFIRMED", CREATED_AT + 1));
+        store.apply(statusChanged("CONFIRMED", CREATED_AT + 1));
+
+        assertThat(count("CONFIRMED")).isEqualTo(1);
+        assertThat(count("PENDING")).isZero();
+        assertThat(store.findByCustomerId(CUSTOMER_ID, 0, 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("updatedAt이 같으면 나중에 반영한 상태가 이김")
+    void sameTimestampLastWriterWins() {
+        store.apply(created());
+        store.apply(statusChanged("CONFIRMED", CREATED_AT + 1));
+        store.apply(statusChanged("CANCELLED", CREATED_AT + 1));
+
+        assertThat(statusOfOrder()).isEqualTo("CANCELLED");
+        assertThat(count("CANCELLED")).isEqualTo(1);
+        assertThat(count("CONFIRMED")).isZero();
+    }
+
+    private static OrderSummary created() {
+        return new OrderSummary(ORDER_ID, "ORD-1", CUSTOMER_ID, "PENDING",
+                BigDecimal.valueOf(10000), CREATED_AT, CREATED_AT);
+    }
+
+    private static OrderSummary statusChanged(String status, long updatedAt) {
+        return new OrderSummary(ORDER_ID, "ORD-1", CUSTOMER_ID, status,
+                BigDecimal.valueOf(10000), null, updatedAt);
+    }
+
+    private String statusOfOrder() {
+        return store.findByCustomerId(CUSTOMER_ID, 0, 1).get(0).status();
+    }
+
+    private List<Long> idsWithStatus(String status) {
+        return store.findByStatus(status, 0, 10).stream().map(OrderSummary::orderId).toList();
+    }
+
+    private long count(String status) {
+        return store.countByStatus().getOrDefault(status, 0L);
+    }
+
+    private void flushDb() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.hanumoka.order.repository;
+
+import com.hanumoka.order.entity.OutboxEvent;
+import com.hanumoka.order.entity.OutboxStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 실패 SQL(markFailedByIds)이 계산한 next_retry_at이 Java 백오프(OutboxEvent.retryBackoff) 범위 안인지 검증
+ *
+ * <p>로컬 MySQL(docker-compose)에서 실제 UPDATE를 실행합니다. 이벤트는 PROCESSING 상태로만 커밋하고
+ * 실패 직후 미래의 next_retry_at을 가지므로 폴링/재시도 스케줄러가 건드리지 않습니다.</p>
+ *
+ * <p>next_retry_at, last_failed_at은 초 단위 TIMESTAMP 컬럼이라 반올림 오차 1초를 허용합니다.</p>
+ */
+@SpringBootTest
+class OutboxRetryBackoffTest {
+
+    private static final int EVENT_COUNT = 3;
+    private static final Duration COLUMN_PRECISION = Duration.ofSeconds(1);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                OutboxEvent event = OutboxEvent.builder()
+                        .aggregateType("Order")
+                        .aggregateId("TEST-BACKOFF-" + System.nanoTime())
+                        .eventType("OrderCreated")
+                        .payload("{}")
+                        .build();
+                event.markAsProcessing();
+                eventIds.add(outboxEventRepository.save(event).getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllById(eventIds);
+    }
+
+    @Test
+    @DisplayName("실패할 때마다 retry_count 증가 후 값 기준 2^min(n, 상한)분 × (1 ± 지터) 뒤로 next_retry_at 설정")
+    void nextRetryAtStaysWithinJavaBackoffBounds() {
+        for (int retryCount = 1; retryCount <= OutboxEvent.MAX_BACKOFF_EXPONENT + 1; retryCount++) {
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+            Integer updated = transactionTemplate.execute(status ->
+                    outboxEventRepository.markFailedByIds(eventIds, "backoff test", now));
+            assertThat(updated).isEqualTo(EVENT_COUNT);
+
+            for (OutboxEvent event : outboxEventRepository.findAllById(eventIds)) {
+                assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+                assertThat(event.getRetryCount()).isEqualTo(retryCount);
+
+                Duration backoff = Duration.between(event.getLastFailedAt(), event.getNextRetryAt());
+                assertThat(backoff)
+                        .as("retryCount=%d", retryCount)
+                        .isBetween(minBackoff(retryCount).minus(COLUMN_PRECISION),
+                                maxBackoff(retryCount).plus(COLUMN_PRECISION));
+            }
+
+            reprocess();
+        }
+    }
+
+    @Test
+    @DisplayName("PROCESSING이 아닌 이벤트는 변경하지 않음")
+    void ignoresEventsNotProcessing() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markFailedByIds(eventIds, "first", now));
+
+        Integer updated = transactionTemplate.execute(status ->
+                outboxEventRepository.markFailedByIds(eventIds, "second", now));
+
+        assertThat(updated).isZero();
+        assertThat(outboxEventRepository.findAllById(eventIds))
+                .allSatisfy(event -> assertThat(event.getRetryCount()).isEqualTo(1));
+    }
+
+    /**
+     * 다음 회차를 위해 FAILED → PROCESSING (PENDING은 커밋하지 않아 폴링에 잡히지 않음)
+     */
+    private void reprocess() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OutboxEvent event : outboxEventRepository.findAllById(eventIds)) {
+                event.markForRetry();
+                event.markAsProcessing();
+            }
+        });
+    }
+
+    /**
+     * Java 백오프 하한 (retryBackoff와 같은 상수 사용)
+     */
+    private static Duration minBackoff(int retryCount) {
+        return baseBackoff(retryCount).multipliedBy(Math.round((1 - OutboxEvent.RETRY_JITTER_RATIO) * 1_000)).dividedBy(1_000);
+    }
+
+    /**
+     * Java 백오프 상한
+     */
+    private static Duration maxBackoff(int retryCount) {
+        return baseBackoff(retryCount).multipliedBy(Math.round((1 + OutboxEvent.RETRY_JITTER_RATIO) * 1_000)).dividedBy(1_000);
+    }
+
+    private static Duration baseBackoff(int retryCount) {
+        return Duration.ofMinutes(1L << Math.min(retryCount, OutboxEvent.MAX_BACKOFF_EXPONENT));
+    }
+}
@@ -0,0 +1,146 @@
+package com.hanumoka.order.service;
+
+import com.hanumoka.common.exception.BusinessException;
+import com.hanumoka.common.exception.ErrorCode;
+import com.hanumoka.common.id.TimeOrderedIdGenerator;
+import com.hanumoka.order.cache.OrderReadCache;
+import com.hanumoka.order.entity.Order;
+import com.hanumoka.order.entity.OrderStatus;
+import com.hanumoka.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 상태 전이 규칙 (OrderStatus.predecessors)과 조건부 UPDATE 결과별 transitionStatus 동작 검증
+ *
+ * <p>조건부 UPDATE의 변경 행 수를 Mock으로 정해 두고, 그 뒤의 분기(이벤트 저장, 멱등 처리, 예외)를 확인합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderStatusTransitionTest {
+
+    private static final Long ORDER_ID = 1L;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private OrderReadCache orderReadCache;
+
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, outboxService, entityManager,
+                TimeOrderedIdGenerator.forNode(1), orderReadCache);
+    }
+
+    @Test
+    @DisplayName("이전 상태 표: PENDING → CONFIRMED → COMPLETED, 취소는 PENDING/CONFIRMED에서만")
+    void predecessorsFollowTransitionTable() {
+        assertThat(OrderStatus.PENDING.predecessors()).isEmpty();
+        assertThat(OrderStatus.CONFIRMED.predecessors()).containsExactly(OrderStatus.PENDING);
+        assertThat(OrderStatus.COMPLETED.predecessors()).containsExactly(OrderStatus.CONFIRMED);
+        assertThat(OrderStatus.CANCELLED.predecessors())
+                .containsExactlyInAnyOrder(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+
+        assertThat(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.CANCELLED)).isTrue();
+        assertThat(OrderStatus.COMPLETED.canTransitionTo(OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatus.CANCELLED.canTransitionTo(OrderStatus.CONFIRMED)).isFalse();
+        assertThat(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.CONFIRMED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("1행 변경: 전이 이벤트를 Outbox에 저장하고 캐시를 무효화")
+    void appliedTransitionSavesEventAndEvictsCache() {
+        Order confirmed = order(OrderStatus.CONFIRMED);
+        when(orderRepository.transitionStatus(eq(ORDER_ID), eq(OrderStatus.CONFIRMED),
+                eq(Set.of(OrderStatus.PENDING)), any())).thenReturn(1);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(confirmed));
+
+        Order result = orderService.transitionStatus(ORDER_ID, OrderStatus.CONFIRMED);
+
+        assertThat(result).isSameAs(confirmed);
+        verify(outboxService).save(eq("Order"), eq("ORD-1"), eq("OrderConfirmed"), any());
+        verify(orderReadCache).evictAfterCommit(eq(ORDER_ID), any());
+        verify(orderRepository, never()).findStatusById(any());
+    }
+
+    @Test
+    @DisplayName("0행 변경 + 이미 목표 상태: 이벤트 없이 현재 주문 반환 (멱등)")
+    void alreadyInTargetIsIdempotent() {
+        Order cancelled = order(OrderStatus.CANCELLED);
+        when(orderRepository.transitionStatus(eq(ORDER_ID), eq(OrderStatus.CANCELLED), any(), any())).thenReturn(0);
+        when(orderRepository.findStatusById(ORDER_ID)).thenReturn(Optional.of(OrderStatus.CANCELLED));
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(cancelled));
+
+        Order result = orderService.transitionStatus(ORDER_ID, OrderStatus.CANCELLED);
+
+        assertThat(result).isSameAs(cancelled);
+        verifyNoInteractions(outboxService, orderReadCache);
+    }
+
+    @Test
+    @DisplayName("0행 변경 + 허용되지 않는 현재 상태: ORDER_INVALID_STATUS_TRANSITION")
+    void disallowedTransitionIsRejected() {
+        when(orderRepository.transitionStatus(eq(ORDER_ID), eq(OrderStatus.CANCELLED), any(), any())).thenReturn(0);
+        when(orderRepository.findStatusById(ORDER_ID)).thenReturn(Optional.of(OrderStatus.COMPLETED));
+
+        assertThatThrownBy(() -> orderService.transitionStatus(ORDER_ID, OrderStatus.CANCELLED))
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getErrorInfo().getCode())
+                        .isEqualTo(ErrorCode.ORDER_INVALID_STATUS_TRANSITION.getCode()));
+        verify(outboxService, never()).save(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("0행 변경 + 주문 없음: ORDER_NOT_FOUND")
+    void missingOrderIsNotFound() {
+        when(orderRepository.transitionStatus(eq(ORDER_ID), eq(OrderStatus.COMPLETED), any(), any())).thenReturn(0);
+        when(orderRepository.findStatusById(ORDER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.transitionStatus(ORDER_ID, OrderStatus.COMPLETED))
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getErrorInfo().getCode())
+                        .isEqualTo(ErrorCode.ORDER_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("PENDING으로의 전이는 UPDATE 없이 현재 상태로만 판단")
+    void pendingTargetSkipsUpdate() {
+        when(orderRepository.findStatusById(ORDER_ID)).thenReturn(Optional.of(OrderStatus.CONFIRMED));
+
+        assertThatThrownBy(() -> orderService.transitionStatus(ORDER_ID, OrderStatus.PENDING))
+                .isInstanceOf(BusinessException.class);
+        verify(orderRepository, never()).transitionStatus(any(), any(), any(), any());
+    }
+
+    private static Order order(OrderStatus status) {
+        return Order.builder()
+                .orderNumber("ORD-1")
+                .customerId(100L)
+                .status(status)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hanumoka.payment.config;
 
+import com.hanumoka.common.id.TimeOrderedIdGenerator;
 import com.hanumoka.common.logging.RequestIdFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,8 +8,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class WebConfig {
 
+    /**
+     * 요청 ID 필터 (ID 생성기는 common의 TimeOrderedIdAutoConfiguration이 등록)
+     */
     @Bean
-    public RequestIdFilter requestIdFilter() {
-        return new RequestIdFilter();
+    public RequestIdFilter requestIdFilter(TimeOrderedIdGenerator idGenerator) {
+        return new RequestIdFilter(idGenerator);
     }
 }
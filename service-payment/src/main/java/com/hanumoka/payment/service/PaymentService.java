@@ -2,6 +2,7 @@ package com.hanumoka.payment.service;
 
 import com.hanumoka.common.exception.BusinessException;
 import com.hanumoka.common.exception.ErrorCode;
+import com.hanumoka.common.id.TimeOrderedIdGenerator;
 import com.hanumoka.payment.entity.Payment;
 import com.hanumoka.payment.gateway.PaymentGateway;
 import com.hanumoka.payment.gateway.PaymentResult;
@@ -17,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Duration;
-import java.util.UUID;
 import java.util.function.Supplier;
 
 @Service
@@ -29,6 +29,7 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentGateway paymentGateway;
     private final RedissonClient redissonClient;
+    private final TimeOrderedIdGenerator idGenerator;
 
     // ========================================
     // 세마포어 설정 (PG 동시 호출 제한)
@@ -232,6 +233,6 @@ public class PaymentService {
     }
 
     private String generatePaymentKey() {
-        return "PAY-" + UUID.randomUUID().toString().substring(0, 12).toUpperCase();
+        return idGenerator.nextKey("PAY-");
     }
 }
\ No newline at end of file
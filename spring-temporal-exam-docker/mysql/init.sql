@@ -11,4 +11,7 @@ GRANT ALL PRIVILEGES ON order_db.* TO 'app_user'@'%';
 GRANT ALL PRIVILEGES ON inventory_db.* TO 'app_user'@'%';
 GRANT ALL PRIVILEGES ON payment_db.* TO 'app_user'@'%';
 
+-- 복제 지연 측정 (복제본에서 SHOW REPLICA STATUS)
+GRANT REPLICATION CLIENT ON *.* TO 'app_user'@'%';
+
 FLUSH PRIVILEGES;
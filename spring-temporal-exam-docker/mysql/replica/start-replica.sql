@@ -0,0 +1,14 @@
+-- 복제본 초기화 (mysql-replica 첫 기동 시 1회)
+-- GTID 자동 위치: 소스의 binlog 처음부터 아직 적용하지 않은 트랜잭션을 받아옴
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root1234',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
+
+-- 애플리케이션 계정의 쓰기 차단 (복제 스레드는 영향 없음), 재시작 후에도 유지
+SET PERSIST read_only = ON;